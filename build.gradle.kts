@@ -30,6 +30,13 @@ tasks.test {
     useJUnitPlatform()
 }
 
+tasks.register<JavaExec>("startupBenchmark") {
+    description = "Compares PathParser.createAll with calling PathParser.create in a loop."
+    group = "verification"
+    classpath = sourceSets.test.get().runtimeClasspath
+    mainClass = "com.joaonmatos.path_parse.BulkLoadingBenchmark"
+}
+
 publishing {
     publications {
         create<MavenPublication>("mavenCentral") {
@@ -0,0 +1,24 @@
+package com.joaonmatos.path_parse;
+
+/**
+ * Guard for the Flight Recorder events, which need the jdk.jfr module.
+ * <p>
+ * The module is an optional dependency, and on a runtime without it, loading ParseEvent or ParserCompilationEvent
+ * fails. Call sites check {@link #ENABLED} before creating an event and otherwise do the same work without one, so the
+ * event classes are never loaded there.
+ */
+final class FlightRecorderEvents {
+    static final boolean ENABLED = isFlightRecorderPresent();
+
+    private FlightRecorderEvents() {
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderEvents.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
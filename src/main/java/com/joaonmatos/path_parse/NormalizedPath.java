@@ -0,0 +1,80 @@
+package com.joaonmatos.path_parse;
+
+/**
+ * A path in canonical form, together with the mapping back to the positions of the path it was derived from.
+ * <p>
+ * The canonical path is the region [start, end) of sequence. When no rewrite was needed, sequence is the original
+ * input itself and positions in it are already original positions.
+ */
+final class NormalizedPath {
+    final private CharSequence sequence;
+    final private int start;
+    final private int end;
+    final private int[] offsets;
+
+    /**
+     * @param sequence sequence holding the canonical path
+     * @param start    0-based index where the canonical path starts in sequence
+     * @param end      0-based index right after the canonical path ends in sequence
+     * @param offsets  for each character of the canonical path, its position in the original input, followed by the
+     *                 end of the original path; null when every position in sequence is also its original position
+     */
+    NormalizedPath(CharSequence sequence, int start, int end, int[] offsets) {
+        this.sequence = sequence;
+        this.start = start;
+        this.end = end;
+        this.offsets = offsets;
+    }
+
+    /**
+     * The canonical path, which is only copied out of the sequence when it does not span all of it.
+     *
+     * @return canonical path
+     */
+    String value() {
+        if (start == 0 && end == sequence.length() && sequence instanceof String) {
+            return (String) sequence;
+        }
+        return sequence.subSequence(start, end).toString();
+    }
+
+    /**
+     * The sequence holding the canonical path.
+     *
+     * @return sequence to match against, restricted to [start, end)
+     */
+    CharSequence sequence() {
+        return sequence;
+    }
+
+    int start() {
+        return start;
+    }
+
+    int end() {
+        return end;
+    }
+
+    /**
+     * Position in the original input of the character at the given position of the sequence.
+     *
+     * @param index 0-based index into sequence, between start and end
+     * @return 0-based index into the original input
+     */
+    int originalStart(int index) {
+        return offsets == null ? index : offsets[index];
+    }
+
+    /**
+     * Position in the original input right after the character preceding the given position of the sequence.
+     *
+     * @param index 0-based index into sequence, between start and end
+     * @return 0-based index into the original input
+     */
+    int originalEnd(int index) {
+        if (offsets == null) {
+            return index;
+        }
+        return index == 0 ? offsets[0] : offsets[index - 1] + 1;
+    }
+}
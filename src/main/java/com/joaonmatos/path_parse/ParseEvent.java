@@ -0,0 +1,38 @@
+package com.joaonmatos.path_parse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for matching an input against a PathParser.
+ * <p>
+ * Parsing is usually much faster than the default threshold, so only the slow matches get recorded unless the
+ * recording lowers it.
+ */
+@Name("com.joaonmatos.path_parse.Parse")
+@Label("Path Parse")
+@Category("Path Parse")
+@Description("Matching of an input against a PathParser")
+@StackTrace(false)
+@Threshold("1 ms")
+final class ParseEvent extends Event {
+    @Label("Entry Point")
+    @Description("The method that did the matching, e.g. PathParser.parse or StaticPathTable.lookup")
+    String entryPoint;
+
+    @Label("Matching Path")
+    @Description("The matching path of the parser, or of the table entry that matched")
+    String matchingPath;
+
+    @Label("Input Length")
+    @Description("Number of characters in the input, counting delimiters between segments when it was split")
+    int inputLength;
+
+    @Label("Matched")
+    boolean matched;
+}
@@ -10,27 +10,80 @@ import java.util.StringJoiner;
  * The result of successfully matching an input against a PathParser.
  */
 final public class ParseResult {
-    final private String input;
+    final private CharSequence source;
+    final private int regionStart;
+    final private int regionEnd;
     final private Map<String, ParseResultParameterValue> parameterValues;
     final private PathParser matchingParser;
+    // copy of the region, made on the first call to input() unless the source is already exactly the region
+    private String input;
 
     ParseResult(
             String input,
             Map<String, ParseResultParameterValue> parameterValues,
             PathParser matchingParser
     ) {
-        this.input = input;
+        this(input, 0, input.length(), parameterValues, matchingParser);
+    }
+
+    ParseResult(
+            CharSequence source,
+            int regionStart,
+            int regionEnd,
+            Map<String, ParseResultParameterValue> parameterValues,
+            PathParser matchingParser
+    ) {
+        this.source = source;
+        this.regionStart = regionStart;
+        this.regionEnd = regionEnd;
         this.parameterValues = Collections.unmodifiableMap(parameterValues);
         this.matchingParser = matchingParser;
+        if (regionStart == 0 && regionEnd == source.length() && source instanceof String) {
+            this.input = (String) source;
+        }
     }
 
     /**
-     * The string that was input to the parse method.
+     * The string that was input to the parse method. When a region of a sequence was parsed, this is a copy of the
+     * region, made on the first call and reused afterwards.
      *
      * @return input string
      */
     public String input() {
-        return input;
+        var copy = input;
+        if (copy == null) {
+            copy = source.subSequence(regionStart, regionEnd).toString();
+            input = copy;
+        }
+        return copy;
+    }
+
+    /**
+     * The sequence that was input to the parse method, which the positions of the parameter values refer to. It is
+     * not copied, so it should not be modified while the result is in use.
+     *
+     * @return input sequence
+     */
+    public CharSequence source() {
+        return source;
+    }
+
+    /**
+     * Position in the source where the parsed region starts.
+     *
+     * @return 0-based index, 0 when a whole string was parsed
+     */
+    public int regionStart() {
+        return regionStart;
+    }
+
+    /**
+     * Position in the source where the parsed region ends.
+     *
+     * @return 0-based index to the character that follows after the region ends
+     */
+    public int regionEnd() {
+        return regionEnd;
     }
 
     /**
@@ -66,18 +119,40 @@ final public class ParseResult {
         if (this == o) return true;
         if (!(o instanceof ParseResult)) return false;
         ParseResult that = (ParseResult) o;
-        return Objects.equals(input, that.input) && Objects.equals(parameterValues, that.parameterValues) && Objects.equals(matchingParser, that.matchingParser);
+        return regionEquals(that) && Objects.equals(parameterValues, that.parameterValues) && Objects.equals(matchingParser, that.matchingParser);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(input, parameterValues, matchingParser);
+        return 31 * regionHashCode() + Objects.hash(parameterValues, matchingParser);
+    }
+
+    // equals and hashCode look at the region in place, so comparing results never copies it out of the source
+    private boolean regionEquals(ParseResult that) {
+        var length = regionEnd - regionStart;
+        if (length != that.regionEnd - that.regionStart) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (source.charAt(regionStart + i) != that.source.charAt(that.regionStart + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int regionHashCode() {
+        var hash = 0;
+        for (int i = regionStart; i < regionEnd; i++) {
+            hash = 31 * hash + source.charAt(i);
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         return new StringJoiner(", ", ParseResult.class.getSimpleName() + "[", "]")
-                .add("input='" + input + "'")
+                .add("input='" + input() + "'")
                 .add("parameterValues=" + parameterValues)
                 .add("matchingParser=" + matchingParser)
                 .toString();
@@ -11,12 +11,18 @@ final public class ParseResultParameterValue {
     final private String value;
     final private int startsAt;
     final private int endsAt;
+    final private int segmentIndex;
 
     ParseResultParameterValue(String name, String value, int startsAt, int endsAt) {
+        this(name, value, startsAt, endsAt, -1);
+    }
+
+    ParseResultParameterValue(String name, String value, int startsAt, int endsAt, int segmentIndex) {
         this.name = name;
         this.value = value;
         this.startsAt = startsAt;
         this.endsAt = endsAt;
+        this.segmentIndex = segmentIndex;
     }
 
 
@@ -39,7 +45,7 @@ final public class ParseResultParameterValue {
     }
 
     /**
-     * Position in the input string where this value starts.
+     * Position in the input string where this value starts. When matching against segments, the position is inside the segment at segmentIndex.
      *
      * @return 0-based index
      */
@@ -48,7 +54,7 @@ final public class ParseResultParameterValue {
     }
 
     /**
-     * Position inthe input string where this value ends.
+     * Position inthe input string where this value ends. When matching against segments, the position is inside the segment at segmentIndex.
      *
      * @return 0-based index to the character that follows after the value ends
      */
@@ -56,17 +62,26 @@ final public class ParseResultParameterValue {
         return endsAt;
     }
 
+    /**
+     * The segment this value was captured from, when matching against segments.
+     *
+     * @return 0-based index into the input segments, or -1 when matching against a string
+     */
+    public int segmentIndex() {
+        return segmentIndex;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof ParseResultParameterValue)) return false;
         ParseResultParameterValue that = (ParseResultParameterValue) o;
-        return startsAt == that.startsAt && endsAt == that.endsAt && Objects.equals(value, that.value);
+        return startsAt == that.startsAt && endsAt == that.endsAt && segmentIndex == that.segmentIndex && Objects.equals(value, that.value);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value, startsAt, endsAt);
+        return Objects.hash(value, startsAt, endsAt, segmentIndex);
     }
 
     @Override
@@ -75,6 +90,7 @@ final public class ParseResultParameterValue {
                 .add("value='" + value + "'")
                 .add("startsAt=" + startsAt)
                 .add("endsAt=" + endsAt)
+                .add("segmentIndex=" + segmentIndex)
                 .toString();
     }
 }
@@ -0,0 +1,35 @@
+package com.joaonmatos.path_parse;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for the compilation of a matching path into a PathParser.
+ */
+@Name("com.joaonmatos.path_parse.ParserCompilation")
+@Label("Path Parser Compilation")
+@Category("Path Parse")
+@Description("Compilation of a matching path into a PathParser")
+@StackTrace(false)
+final class ParserCompilationEvent extends Event {
+    @Label("Matching Path")
+    String matchingPath;
+
+    @Label("Options")
+    String options;
+
+    @Label("Succeeded")
+    @Description("False when the matching path was rejected")
+    boolean succeeded;
+
+    @Label("Pattern Length")
+    @Description("Length of the generated regular expression")
+    int patternLength;
+
+    @Label("Named Parameters")
+    int namedParameterCount;
+}
@@ -0,0 +1,68 @@
+package com.joaonmatos.path_parse;
+
+/**
+ * Character helpers shared by the lexer and by the matchers that do not go through a compiled pattern.
+ * <p>
+ * Character classes are lookup tables indexed by the char, so testing membership needs no boxing. Case folding is
+ * ASCII only, the same as {@link java.util.regex.Pattern#CASE_INSENSITIVE} without Unicode case.
+ */
+final class PathChars {
+    private static final boolean[] HEX_DIGITS = asciiTable("0123456789abcdefABCDEF");
+
+    private PathChars() {
+    }
+
+    /**
+     * Build a lookup table for a class of ASCII characters.
+     *
+     * @param members the characters in the class
+     * @return table to use with isIn
+     */
+    static boolean[] asciiTable(String members) {
+        var table = new boolean[128];
+        for (int i = 0; i < members.length(); i++) {
+            table[members.charAt(i)] = true;
+        }
+        return table;
+    }
+
+    static boolean isIn(boolean[] table, char c) {
+        return c < table.length && table[c];
+    }
+
+    static boolean isHexDigit(char c) {
+        return isIn(HEX_DIGITS, c);
+    }
+
+    static char toUpperCaseHexDigit(char c) {
+        return c >= 'a' && c <= 'f' ? (char) (c - 'a' + 'A') : c;
+    }
+
+    static char foldCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    /**
+     * Compare a region of a sequence with a literal.
+     *
+     * @param literal    the literal to look for
+     * @param input      the sequence to look into
+     * @param from       position in input where the literal should start
+     * @param ignoreCase whether to fold ASCII case before comparing
+     * @return true if the literal appears at that position
+     */
+    static boolean regionMatches(String literal, CharSequence input, int from, boolean ignoreCase) {
+        var length = literal.length();
+        if (from < 0 || from + length > input.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            var a = literal.charAt(i);
+            var b = input.charAt(from + i);
+            if (a != b && (!ignoreCase || foldCase(a) != foldCase(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
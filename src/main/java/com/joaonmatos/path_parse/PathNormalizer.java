@@ -0,0 +1,155 @@
+package com.joaonmatos.path_parse;
+
+/**
+ * Rewrites paths into the canonical form that compiled parsers match against.
+ * <p>
+ * Every rewrite happens in a single forward scan: runs of delimiters are collapsed, dot segments are removed,
+ * percent-encoded octets are upper-cased and the trailing delimiter is stripped, depending on the options.
+ * When the path is already canonical it is returned as is, without copying it, which also holds for paths in a region
+ * of a larger sequence.
+ */
+final class PathNormalizer {
+    final private boolean collapseEmptyPathSegments;
+    final private boolean removeDotSegments;
+    final private boolean canonicalizePercentEncoding;
+    final private boolean stripTrailingDelimiter;
+
+    PathNormalizer(PathParserOptions options) {
+        this(options, options.collapseEmptyPathSegments(), options.matchTrailingDelimiter());
+    }
+
+    /**
+     * @param options                   the parser's options
+     * @param collapseEmptyPathSegments whether to collapse runs of delimiters, overriding the options
+     * @param stripTrailingDelimiter    whether to strip the trailing delimiter, overriding the options
+     */
+    PathNormalizer(PathParserOptions options, boolean collapseEmptyPathSegments, boolean stripTrailingDelimiter) {
+        this.collapseEmptyPathSegments = collapseEmptyPathSegments;
+        this.removeDotSegments = options.removeDotSegments();
+        // when ignoring case the compiled pattern already treats "%2f" and "%2F" the same
+        this.canonicalizePercentEncoding = options.caseSensitive();
+        this.stripTrailingDelimiter = stripTrailingDelimiter;
+    }
+
+    /**
+     * Normalize a path.
+     *
+     * @param input the path to normalize
+     * @return the canonical path, which maps its positions back to the input
+     */
+    NormalizedPath normalize(String input) {
+        return normalize(input, 0, input.length());
+    }
+
+    /**
+     * Normalize the path in a region of a sequence.
+     *
+     * @param input sequence containing the path
+     * @param from  0-based index where the path starts
+     * @param to    0-based index right after the path ends
+     * @return the canonical path, which maps its positions back to the input
+     */
+    NormalizedPath normalize(CharSequence input, int from, int to) {
+        char[] chars = null;
+        int[] offsets = null;
+        var n = 0;
+        var i = from;
+        var hexDigitsLeft = 0;
+        while (i < to) {
+            var c = input.charAt(i);
+            var out = c;
+            if (hexDigitsLeft > 0) {
+                hexDigitsLeft--;
+                out = PathChars.toUpperCaseHexDigit(c);
+            } else if (c == '%') {
+                if (canonicalizePercentEncoding && i + 2 < to && PathChars.isHexDigit(input.charAt(i + 1)) && PathChars.isHexDigit(input.charAt(i + 2))) {
+                    hexDigitsLeft = 2;
+                }
+            } else if (c == '/') {
+                // of a run of delimiters we keep the last one, so that a dot segment following the run is still seen
+                if (collapseEmptyPathSegments && i + 1 < to && input.charAt(i + 1) == '/') {
+                    if (chars == null) {
+                        chars = copyPrefix(input, from, to, n);
+                        offsets = identityOffsets(from, to, n);
+                    }
+                    i++;
+                    continue;
+                }
+                var dots = removeDotSegments ? dotSegmentLength(input, i + 1, to) : 0;
+                if (dots > 0) {
+                    if (chars == null) {
+                        chars = copyPrefix(input, from, to, n);
+                        offsets = identityOffsets(from, to, n);
+                    }
+                    if (dots == 2) {
+                        n = Math.max(lastDelimiter(chars, n), 0);
+                    }
+                    // a dot segment at the end still leaves the delimiter before it, e.g. "/a/b/.." is "/a/"
+                    if (i + 1 + dots == to) {
+                        chars[n] = '/';
+                        offsets[n] = i;
+                        n++;
+                    }
+                    i += 1 + dots;
+                    continue;
+                }
+            }
+            if (chars == null && out != c) {
+                chars = copyPrefix(input, from, to, n);
+                offsets = identityOffsets(from, to, n);
+            }
+            if (chars != null) {
+                chars[n] = out;
+                offsets[n] = i;
+            }
+            n++;
+            i++;
+        }
+        if (stripTrailingDelimiter && n > 1 && (chars == null ? input.charAt(from + n - 1) : chars[n - 1]) == '/') {
+            n--;
+        }
+        if (chars == null) {
+            return new NormalizedPath(input, from, from + n, null);
+        }
+        offsets[n] = to;
+        return new NormalizedPath(new String(chars, 0, n), 0, n, offsets);
+    }
+
+    private static char[] copyPrefix(CharSequence input, int from, int to, int prefixLength) {
+        var chars = new char[to - from];
+        for (int i = 0; i < prefixLength; i++) {
+            chars[i] = input.charAt(from + i);
+        }
+        return chars;
+    }
+
+    private static int[] identityOffsets(int from, int to, int prefixLength) {
+        var offsets = new int[to - from + 1];
+        for (int i = 0; i < prefixLength; i++) {
+            offsets[i] = from + i;
+        }
+        return offsets;
+    }
+
+    private static int dotSegmentLength(CharSequence input, int from, int to) {
+        if (from >= to || input.charAt(from) != '.') {
+            return 0;
+        }
+        if (from + 1 == to || input.charAt(from + 1) == '/') {
+            return 1;
+        }
+        if (input.charAt(from + 1) == '.' && (from + 2 == to || input.charAt(from + 2) == '/')) {
+            return 2;
+        }
+        return 0;
+    }
+
+    private static int lastDelimiter(char[] chars, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (chars[i] == '/') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -1,6 +1,15 @@
 package com.joaonmatos.path_parse;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 /**
@@ -44,6 +53,37 @@ public interface PathParser {
         return PathParserFactory.createParser(matchingPath, options);
     }
 
+    /**
+     * Create PathParsers for many matching paths at once, compiling them in parallel.
+     * <p>
+     * The reader has one matching path per line. Blank lines and lines starting with '#' are skipped. Incorrect
+     * matching paths do not stop the loading, they are reported in the result instead.
+     *
+     * @param source  one matching path per line
+     * @param options configuration shared by all the parsers
+     * @return the parsers for the correct matching paths and the errors for the others
+     * @throws IOException when reading the source fails
+     */
+    static PathParserBatch createAll(Reader source, PathParserOptions options) throws IOException {
+        var reader = source instanceof BufferedReader ? (BufferedReader) source : new BufferedReader(source);
+        return PathParserFactory.createParsers(reader, options);
+    }
+
+    /**
+     * Create PathParsers for many matching paths at once, compiling them in parallel.
+     *
+     * @param file    UTF-8 file with one matching path per line
+     * @param options configuration shared by all the parsers
+     * @return the parsers for the correct matching paths and the errors for the others
+     * @throws IOException when reading the file fails
+     * @see #createAll(Reader, PathParserOptions)
+     */
+    static PathParserBatch createAll(Path file, PathParserOptions options) throws IOException {
+        try (var reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return PathParserFactory.createParsers(reader, options);
+        }
+    }
+
     /**
      * The path against which this parser is matching inputs.
      *
@@ -72,4 +112,99 @@ public interface PathParser {
      * @return ParseResult if there's a match, null otherwise
      */
     ParseResult parse(String input);
+
+    /**
+     * Test a region of the input against this parser's path and see if it matches, without copying the region out.
+     * <p>
+     * This allows matching the path inside a whole request line or URL, or continuing after the prefix matched by
+     * another parser. Positions in the result are relative to the whole input, not to the region.
+     * <p>
+     * To continue after a prefix, the region starts where the prefix ends in the input, keeping the delimiter that
+     * starts the rest of the path. When the input starts with the other parser's matching path verbatim, that is its
+     * {@link #prefixLength()}, minus one if the prefix ends with '/': after a prefix of "/api/v1/", the rest of
+     * "/api/v1/users" is "/users", from index 7. Inputs that only match the prefix once normalized, e.g.
+     * "/api//v1/users", need their own offset.
+     * <p>
+     * The default implementation copies the region into a string and parses it; parsers created by this library
+     * match the region in place.
+     *
+     * @param input sequence containing the unknown path we want to test against our matching path
+     * @param from  0-based index where the path starts
+     * @param to    0-based index right after the path ends
+     * @return ParseResult if there's a match, null otherwise
+     * @throws IndexOutOfBoundsException when from and to are not a region of the input
+     */
+    default ParseResult parse(CharSequence input, int from, int to) {
+        Objects.checkFromToIndex(from, to, input.length());
+        var result = parse(input.subSequence(from, to).toString());
+        if (result == null) {
+            return null;
+        }
+        var parameterValues = new HashMap<String, ParseResultParameterValue>();
+        for (var value : result.parameterValues().values()) {
+            parameterValues.put(value.name(), new ParseResultParameterValue(
+                    value.name(),
+                    value.value(),
+                    value.startsAt() + from,
+                    value.endsAt() + from
+            ));
+        }
+        return new ParseResult(input, from, to, parameterValues, this);
+    }
+
+    /**
+     * Test a path that has already been split into segments against this parser's path and see if it matches.
+     * <p>
+     * The segments are the parts of the path between delimiters, e.g. "/users/joao/" is ["users", "joao", ""], and
+     * the root path is [""] or the empty list. They are not scanned for delimiters again: each one is compared to a
+     * literal or captured as a whole, and a segment containing '/', '#' or '?' where a parameter is does not match.
+     * <p>
+     * The default implementation joins the segments into a path and parses it; parsers created by this library
+     * match the segments directly.
+     *
+     * @param segments unknown path we want to test against our matching path, split on its delimiters
+     * @return SegmentParseResult if there's a match, null otherwise
+     */
+    default SegmentParseResult parseSegments(List<? extends CharSequence> segments) {
+        var input = segments.isEmpty() ? List.of("") : segments;
+        var path = new StringBuilder();
+        var segmentStarts = new int[input.size()];
+        for (int i = 0; i < input.size(); i++) {
+            path.append('/');
+            segmentStarts[i] = path.length();
+            path.append(input.get(i));
+        }
+        var result = parse(path.toString());
+        if (result == null) {
+            return null;
+        }
+        var parameterValues = new HashMap<String, ParseResultParameterValue>();
+        for (var value : result.parameterValues().values()) {
+            var segmentIndex = Arrays.binarySearch(segmentStarts, value.startsAt());
+            if (segmentIndex < 0) {
+                // the value starts inside a segment rather than at its beginning
+                segmentIndex = -segmentIndex - 2;
+            }
+            var segmentStart = segmentStarts[segmentIndex];
+            parameterValues.put(value.name(), new ParseResultParameterValue(
+                    value.name(),
+                    value.value(),
+                    value.startsAt() - segmentStart,
+                    value.endsAt() - segmentStart,
+                    segmentIndex
+            ));
+        }
+        return new SegmentParseResult(segments, parameterValues, this);
+    }
+
+    /**
+     * Test a path that has already been split into segments against this parser's path and see if it matches.
+     *
+     * @param segments unknown path we want to test against our matching path, split on its delimiters
+     * @return SegmentParseResult if there's a match, null otherwise
+     * @see #parseSegments(List)
+     */
+    default SegmentParseResult parseSegments(CharSequence... segments) {
+        return parseSegments(Arrays.asList(segments));
+    }
 }
@@ -0,0 +1,66 @@
+package com.joaonmatos.path_parse;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The outcome of loading matching paths in bulk: the parsers for every correct path and the errors for the others.
+ */
+final public class PathParserBatch {
+    final private List<PathParser> parsers;
+    final private List<PathSpecError> errors;
+
+    PathParserBatch(List<PathParser> parsers, List<PathSpecError> errors) {
+        this.parsers = List.copyOf(parsers);
+        this.errors = List.copyOf(errors);
+    }
+
+    /**
+     * Parsers for the correct matching paths, in the order they appear in the source.
+     *
+     * @return unmodifiable list of parsers
+     */
+    public List<PathParser> parsers() {
+        return parsers;
+    }
+
+    /**
+     * Errors for the matching paths that could not be compiled, in the order they appear in the source.
+     *
+     * @return unmodifiable list of errors
+     */
+    public List<PathSpecError> errors() {
+        return errors;
+    }
+
+    /**
+     * Whether any matching path could not be compiled.
+     *
+     * @return true if errors is not empty
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PathParserBatch)) return false;
+        PathParserBatch that = (PathParserBatch) o;
+        return Objects.equals(parsers, that.parsers) && Objects.equals(errors, that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parsers, errors);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", PathParserBatch.class.getSimpleName() + "[", "]")
+                .add("parsers=" + parsers)
+                .add("errors=" + errors)
+                .toString();
+    }
+}
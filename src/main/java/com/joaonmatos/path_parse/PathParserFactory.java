@@ -1,16 +1,21 @@
 package com.joaonmatos.path_parse;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.IntStream;
 
 public class PathParserFactory {
-    private static final Set<Character> RESERVED_CHARACTERS = Set.of('?', '#', '[', ']', '@', '!', '{', '}', '+', '*');
+    private static final boolean[] RESERVED_CHARACTERS = PathChars.asciiTable("?#[]@!{}+*");
 
-    private static final Set<Character> HEX_CHARACTERS = Set.of('0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f', 'A', 'B', 'C', 'D', 'E', 'F');
+    private static final boolean[] REGEX_SPECIAL_CHARACTERS = PathChars.asciiTable(".+*?=^!:${}()[]|/\\");
 
-    private static final Pattern REGEX_SPECIAL_CHARACTERS = Pattern.compile("([.+*?=^!:${}()\\[\\]|/\\\\])");
+    // large enough to keep every core busy, small enough not to hold a big source in memory
+    private static final int CHUNK_SIZE = 4096;
 
     /**
      * Parse the path and options and create a correctly configured implementation of PathParser
@@ -24,60 +29,135 @@ public class PathParserFactory {
         if (options == null) {
             options = PathParserOptions.getDefault();
         }
+        if (!FlightRecorderEvents.ENABLED) {
+            return compile(matchingPath, options);
+        }
+        var event = new ParserCompilationEvent();
+        event.begin();
+        PathParserImpl parser = null;
+        try {
+            parser = compile(matchingPath, options);
+            return parser;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.matchingPath = matchingPath;
+                event.options = options.toString();
+                event.succeeded = parser != null;
+                event.patternLength = parser == null ? 0 : parser.regex().pattern().length();
+                event.namedParameterCount = parser == null ? 0 : parser.namedParameters().size();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Read one matching path per line and compile them in parallel. Blank lines and lines starting with '#' are skipped.
+     * <p>
+     * Lines are compiled in chunks as they are read, so only one chunk of the source is held in memory at a time.
+     *
+     * @param reader  source of the matching paths
+     * @param options use this to configure aspects of the parsers' behaviour
+     * @return the parsers for the correct matching paths and the errors for the others
+     * @throws IOException when reading fails
+     */
+    static PathParserBatch createParsers(BufferedReader reader, PathParserOptions options) throws IOException {
+        var finalOptions = options == null ? PathParserOptions.getDefault() : options;
+        var parsers = new ArrayList<PathParser>();
+        var errors = new ArrayList<PathSpecError>();
+        var chunk = new Chunk();
+        var lineNumber = 0;
+        for (var line = reader.readLine(); line != null; line = reader.readLine()) {
+            lineNumber++;
+            var trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.charAt(0) == '#') {
+                continue;
+            }
+            chunk.lines[chunk.size] = line;
+            chunk.lineNumbers[chunk.size] = lineNumber;
+            chunk.size++;
+            if (chunk.size == CHUNK_SIZE) {
+                chunk.compile(finalOptions, parsers, errors);
+            }
+        }
+        chunk.compile(finalOptions, parsers, errors);
+        return new PathParserBatch(parsers, errors);
+    }
+
+    private static PathParserImpl compile(String matchingPath, PathParserOptions options) {
         if (matchingPath == null || matchingPath.isBlank()) {
             throw new IllegalArgumentException("Can't build PathParser: null or blank matchingPath");
         }
         matchingPath = matchingPath.trim();
+        // the spec goes through the same normalization as the inputs, so the pattern needs no optional delimiters.
+        // Empty parameter values are the exception: in "/u//x" against "/u/:id/x", or "/u/" against "/u/:id", the
+        // delimiters around an empty value must survive, so collapsing is left to the pattern, as is the trailing
+        // delimiter after a final parameter.
+        var emptyParameterValues = options.allowEmptyParameterValues() && matchingPath.indexOf(':') != -1;
+        var collapseInPattern = emptyParameterValues && options.collapseEmptyPathSegments();
+        var normalizer = new PathNormalizer(options, options.collapseEmptyPathSegments() && !collapseInPattern, false);
+        var spec = normalizer.normalize(matchingPath);
+        if (collapseInPattern && spec.value().indexOf(':') == -1) {
+            // the parameters were in dot segments, so the path is static after all and collapses like any other
+            collapseInPattern = false;
+            normalizer = new PathNormalizer(options, true, false);
+            spec = normalizer.normalize(matchingPath);
+        }
+        var specPath = spec.value();
+        // the trailing delimiter is left out, unless the pattern already makes it optional as one of a run of delimiters
+        var trailingDelimiter = options.matchTrailingDelimiter() && specPath.length() > 1 && specPath.charAt(specPath.length() - 1) == '/';
+        if (trailingDelimiter && !(collapseInPattern && specPath.charAt(specPath.length() - 2) == '/')) {
+            specPath = specPath.substring(0, specPath.length() - 1);
+        }
 
         var state = LexerStates.START;
         var patternBuilder = new StringBuilder("^");
         var localBuilder = new StringBuilder();
         var paramNames = new HashSet<String>();
-        for (int i = 0; i < matchingPath.length(); i++) {
-            var c = matchingPath.charAt(i);
-            if (RESERVED_CHARACTERS.contains(c)) {
-                throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - character " + c + " is reserved by the URI standard or by the developer.");
+        for (int i = 0; i < specPath.length(); i++) {
+            var c = specPath.charAt(i);
+            if (PathChars.isIn(RESERVED_CHARACTERS, c)) {
+                throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - character " + c + " is reserved by the URI standard or by the developer.");
             }
-            var escapedSequence = escapeCharForRegex(c);
             switch (state) {
                 case START: {
                     if (c != '/') {
-                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - expected character '/' but got " + c);
+                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - expected character '/' but got " + c);
                     }
-                    patternBuilder.append(escapedSequence);
+                    appendEscaped(patternBuilder, c);
                     state = LexerStates.DELIMITER;
                     break;
                 }
                 case DELIMITER: {
                     if (c == '/') {
-                        patternBuilder.append(escapedSequence);
-                        if (options.collapseEmptyPathSegments()) {
+                        appendEscaped(patternBuilder, c);
+                        if (collapseInPattern) {
                             patternBuilder.append('?');
                         }
                     } else if (c == ':') {
-                        localBuilder = new StringBuilder();
+                        localBuilder.setLength(0);
                         state = LexerStates.COLON;
                     } else if (c == '%') {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.PERCENT;
                     } else {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.LITERAL;
                     }
                     break;
                 }
                 case LITERAL: {
                     if (c == '/') {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.DELIMITER;
                     } else if (c == ':') {
-                        localBuilder = new StringBuilder();
+                        localBuilder.setLength(0);
                         state = LexerStates.COLON;
                     } else if (c == '%') {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.PERCENT;
                     } else {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                     }
                     break;
                 }
@@ -86,7 +166,7 @@ public class PathParserFactory {
                         localBuilder.append(c);
                         state = LexerStates.ALPHANUM;
                     } else {
-                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - expected a character in 0-9,a-z,A-z but got" + c);
+                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - expected a character in 0-9,a-z,A-z but got" + c);
                     }
                     break;
                 }
@@ -96,37 +176,37 @@ public class PathParserFactory {
                     } else if (c == '/') {
                         var paramName = localBuilder.toString();
                         if (paramNames.contains(paramName)) {
-                            throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - the parameter name " + paramName + " has already been used in the path");
+                            throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - the parameter name " + paramName + " has already been used in the path");
                         }
                         paramNames.add(paramName);
-                        patternBuilder.append(buildNamedCaptureGroup(paramName, options.allowEmptyParameterValues()));
-                        patternBuilder.append(escapedSequence);
+                        appendNamedCaptureGroup(patternBuilder, paramName, options.allowEmptyParameterValues());
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.DELIMITER;
                     } else if (c == ':') {
                         var paramName = localBuilder.toString();
                         if (paramNames.contains(paramName)) {
-                            throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - the parameter name " + paramName + " has already been used in the path");
+                            throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - the parameter name " + paramName + " has already been used in the path");
                         }
                         paramNames.add(paramName);
-                        patternBuilder.append(buildNamedCaptureGroup(paramName, options.allowEmptyParameterValues()));
-                        localBuilder = new StringBuilder();
+                        appendNamedCaptureGroup(patternBuilder, paramName, options.allowEmptyParameterValues());
+                        localBuilder.setLength(0);
                         state = LexerStates.COLON;
                     } else {
-                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " expected a character in 0-9,a-z,A-z,'/',':' but got" + c);
+                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " expected a character in 0-9,a-z,A-z,'/',':' but got" + c);
                     }
                     break;
                 }
                 case PERCENT: {
-                    if (!HEX_CHARACTERS.contains(c)) {
-                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - the first character after a '%' must be a hexadecimal digit but is " + c);
+                    if (!PathChars.isHexDigit(c)) {
+                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - the first character after a '%' must be a hexadecimal digit but is " + c);
                     }
                     patternBuilder.append(c);
                     state = LexerStates.PERCENT_N1;
                     break;
                 }
                 case PERCENT_N1: {
-                    if (!HEX_CHARACTERS.contains(c)) {
-                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + i + " - the second character after a '%' must be a hexadecimal digit but is " + c);
+                    if (!PathChars.isHexDigit(c)) {
+                        throw new IllegalArgumentException("Can't build PathParser: invalid input at position " + spec.originalStart(i) + " - the second character after a '%' must be a hexadecimal digit but is " + c);
                     }
                     patternBuilder.append(c);
                     state = LexerStates.PERCENT_N2;
@@ -134,16 +214,16 @@ public class PathParserFactory {
                 }
                 case PERCENT_N2: {
                     if (c == '/') {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.DELIMITER;
                     } else if (c == ':') {
-                        localBuilder = new StringBuilder();
+                        localBuilder.setLength(0);
                         state = LexerStates.COLON;
                     } else if (c == '%') {
                         patternBuilder.append(c);
                         state = LexerStates.PERCENT;
                     } else {
-                        patternBuilder.append(escapedSequence);
+                        appendEscaped(patternBuilder, c);
                         state = LexerStates.LITERAL;
                     }
                     break;
@@ -159,35 +239,70 @@ public class PathParserFactory {
                 throw new IllegalArgumentException("Can't build PathParser: invalid input at end of path - the parameter name " + paramName + " has already been used in the path");
             }
             paramNames.add(paramName);
-            patternBuilder.append(buildNamedCaptureGroup(paramName, options.allowEmptyParameterValues()));
+            appendNamedCaptureGroup(patternBuilder, paramName, options.allowEmptyParameterValues());
         }
-        if (options.matchTrailingDelimiter()) {
-            if (patternBuilder.toString().endsWith("/")) {
-                patternBuilder.append('?');
-            } else {
-                patternBuilder.append("\\/?");
-            }
+        // inputs are stripped of their trailing delimiter unless the path keeps one at the end: a path that ended in
+        // "//", a final parameter that can be empty, or the root path, which is its own trailing delimiter. Those make it
+        // optional in the pattern instead, as stripping "//" would let it through as "/"
+        var optionalTrailingDelimiter = options.matchTrailingDelimiter()
+                && ((trailingDelimiter && specPath.charAt(specPath.length() - 1) == '/') || (state == LexerStates.ALPHANUM && options.allowEmptyParameterValues()));
+        var rootPath = specPath.equals("/");
+        if (optionalTrailingDelimiter) {
+            patternBuilder.append("\\/?");
+        } else if (rootPath && options.matchTrailingDelimiter()) {
+            patternBuilder.append('?');
         }
-
         patternBuilder.append('$');
+        var stripTrailingDelimiter = options.matchTrailingDelimiter() && !rootPath && !optionalTrailingDelimiter;
+        normalizer = new PathNormalizer(options, options.collapseEmptyPathSegments() && !collapseInPattern, stripTrailingDelimiter);
 
-        return new PathParserImpl(matchingPath, Pattern.compile(patternBuilder.toString(), options.caseSensitive() ? 0 : Pattern.CASE_INSENSITIVE), List.copyOf(paramNames));
+        return new PathParserImpl(matchingPath, options, normalizer, Pattern.compile(patternBuilder.toString(), options.caseSensitive() ? 0 : Pattern.CASE_INSENSITIVE), new SegmentPattern(specPath, options, !collapseInPattern, stripTrailingDelimiter, optionalTrailingDelimiter), List.copyOf(paramNames));
     }
 
-    private static String escapeCharForRegex(char c) {
-        var s = Character.toString(c);
-        var matcher = REGEX_SPECIAL_CHARACTERS.matcher(s);
-        if (matcher.matches()) {
-            return "\\" + c;
-        } else {
-            return s;
+    private static void appendEscaped(StringBuilder patternBuilder, char c) {
+        if (PathChars.isIn(REGEX_SPECIAL_CHARACTERS, c)) {
+            patternBuilder.append('\\');
         }
+        patternBuilder.append(c);
     }
 
-    private static String buildNamedCaptureGroup(String name, boolean allowEmptyParameterValues) {
+    private static void appendNamedCaptureGroup(StringBuilder patternBuilder, String name, boolean allowEmptyParameterValues) {
         var quantifier = allowEmptyParameterValues ? '*' : '+';
         var disallowedCharacterClass = "[^\\/#\\?]";
-        return "(?<" + name + ">" + disallowedCharacterClass + quantifier + ")";
+        patternBuilder.append("(?<").append(name).append('>').append(disallowedCharacterClass).append(quantifier).append(')');
+    }
+
+    /**
+     * Lines read by createParsers and not compiled yet. Each line fills exactly one of the two slots at its index, so
+     * the batch keeps the order of the source.
+     */
+    private static final class Chunk {
+        final private String[] lines = new String[CHUNK_SIZE];
+        final private int[] lineNumbers = new int[CHUNK_SIZE];
+        final private PathParser[] parserSlots = new PathParser[CHUNK_SIZE];
+        final private PathSpecError[] errorSlots = new PathSpecError[CHUNK_SIZE];
+        private int size;
+
+        private void compile(PathParserOptions options, List<PathParser> parsers, List<PathSpecError> errors) {
+            IntStream.range(0, size).parallel().forEach(i -> {
+                try {
+                    parserSlots[i] = createParser(lines[i], options);
+                } catch (IllegalArgumentException e) {
+                    errorSlots[i] = new PathSpecError(lineNumbers[i], lines[i], e.getMessage());
+                }
+            });
+            for (int i = 0; i < size; i++) {
+                if (parserSlots[i] != null) {
+                    parsers.add(parserSlots[i]);
+                } else {
+                    errors.add(errorSlots[i]);
+                }
+            }
+            Arrays.fill(lines, 0, size, null);
+            Arrays.fill(parserSlots, 0, size, null);
+            Arrays.fill(errorSlots, 0, size, null);
+            size = 0;
+        }
     }
 
     private enum LexerStates {
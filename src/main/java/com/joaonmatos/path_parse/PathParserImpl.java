@@ -2,18 +2,26 @@ package com.joaonmatos.path_parse;
 
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.regex.Pattern;
 
 final class PathParserImpl implements PathParser {
     final private String matchingPath;
+    final private PathParserOptions options;
+    final private PathNormalizer normalizer;
     final private Pattern regex;
+    final private SegmentPattern segmentPattern;
     final private List<String> namedParameters;
     final private int prefixLength;
 
-    PathParserImpl(String matchingPath, Pattern regex, List<String> namedParameters) {
+    PathParserImpl(String matchingPath, PathParserOptions options, PathNormalizer normalizer, Pattern regex, SegmentPattern segmentPattern, List<String> namedParameters) {
         this.matchingPath = matchingPath;
+        this.options = options;
+        this.normalizer = normalizer;
         this.regex = regex;
+        this.segmentPattern = segmentPattern;
         this.namedParameters = namedParameters;
         var firstColonInPath = matchingPath.indexOf(":");
         this.prefixLength = firstColonInPath == -1
@@ -36,20 +44,58 @@ final class PathParserImpl implements PathParser {
         return namedParameters;
     }
 
+    PathParserOptions options() {
+        return options;
+    }
+
+    Pattern regex() {
+        return regex;
+    }
+
     @Override
     public ParseResult parse(String input) {
-        var matcher = regex.matcher(input);
+        return parse(input, 0, input.length());
+    }
+
+    @Override
+    public ParseResult parse(CharSequence input, int from, int to) {
+        Objects.checkFromToIndex(from, to, input.length());
+        if (!FlightRecorderEvents.ENABLED) {
+            return match(input, from, to);
+        }
+        var event = new ParseEvent();
+        event.begin();
+        var result = match(input, from, to);
+        event.end();
+        if (event.shouldCommit()) {
+            event.entryPoint = "PathParser.parse";
+            event.matchingPath = matchingPath;
+            event.inputLength = to - from;
+            event.matched = result != null;
+            event.commit();
+        }
+        return result;
+    }
+
+    private ParseResult match(CharSequence input, int from, int to) {
+        var normalized = normalizer.normalize(input, from, to);
+        var matcher = regex.matcher(normalized.sequence()).region(normalized.start(), normalized.end());
         if (!matcher.matches()) {
             return null;
         }
+        if (namedParameters.isEmpty()) {
+            return new ParseResult(input, from, to, Map.of(), this);
+        }
         var parameterValues = new HashMap<String, ParseResultParameterValue>();
         for (var param : namedParameters) {
-            var value = matcher.group(param);
-            var start = matcher.start(param);
-            var end = matcher.end(param);
+            // positions are reported against the input, not against its normalized form
+            var start = normalized.originalStart(matcher.start(param));
+            var end = matcher.end(param) == matcher.start(param)
+                    ? start
+                    : normalized.originalEnd(matcher.end(param));
             var paramValue = new ParseResultParameterValue(
                     param,
-                    value,
+                    input.subSequence(start, end).toString(),
                     start,
                     end
             );
@@ -57,11 +103,37 @@ final class PathParserImpl implements PathParser {
         }
         return new ParseResult(
                 input,
+                from,
+                to,
                 parameterValues,
                 this
         );
     }
 
+    @Override
+    public SegmentParseResult parseSegments(List<? extends CharSequence> segments) {
+        if (!FlightRecorderEvents.ENABLED) {
+            return segmentPattern.match(segments, this);
+        }
+        var event = new ParseEvent();
+        event.begin();
+        var result = segmentPattern.match(segments, this);
+        event.end();
+        if (event.shouldCommit()) {
+            event.entryPoint = "PathParser.parseSegments";
+            event.matchingPath = matchingPath;
+            // the length of the path the segments would be joined into
+            var inputLength = Math.max(segments.size(), 1);
+            for (var segment : segments) {
+                inputLength += segment.length();
+            }
+            event.inputLength = inputLength;
+            event.matched = result != null;
+            event.commit();
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", PathParserImpl.class.getSimpleName() + "[", "]")
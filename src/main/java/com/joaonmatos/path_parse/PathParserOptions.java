@@ -11,11 +11,13 @@ final public class PathParserOptions {
     final private static boolean DEFAULT_MATCH_TRAILING_DELIMITER = true;
     final private static boolean DEFAULT_ALLOW_EMPTY_PARAMETER_VALUES = false;
     final private static boolean DEFAULT_COLLAPSE_EMPTY_PATH_SEGMENTS = false;
+    final private static boolean DEFAULT_REMOVE_DOT_SEGMENTS = false;
 
     final private boolean caseSensitive;
     final private boolean matchTrailingDelimiter;
     final private boolean allowEmptyParameterValues;
     final private boolean collapseEmptyPathSegments;
+    final private boolean removeDotSegments;
 
     /**
      * Create a new PathParserOptions object
@@ -26,10 +28,24 @@ final public class PathParserOptions {
      * @param collapseEmptyPathSegments when this option is true, the parser will be insensitive to multiple delimiters in a row. Default: false
      */
     public PathParserOptions(boolean caseSensitive, boolean matchTrailingDelimiter, boolean allowEmptyParameterValues, boolean collapseEmptyPathSegments) {
+        this(caseSensitive, matchTrailingDelimiter, allowEmptyParameterValues, collapseEmptyPathSegments, DEFAULT_REMOVE_DOT_SEGMENTS);
+    }
+
+    /**
+     * Create a new PathParserOptions object
+     *
+     * @param caseSensitive             whether the parser should ignore case or not. Default: false
+     * @param matchTrailingDelimiter    should the parser succeed even if the path has a trailing delimiter and the input not, or vice-versa. Default: true
+     * @param allowEmptyParameterValues should the parser accept an empty input path segment where there is a named parameter. Default: false
+     * @param collapseEmptyPathSegments when this option is true, the parser will be insensitive to multiple delimiters in a row. Default: false
+     * @param removeDotSegments         when this option is true, '.' and '..' path segments are resolved before matching. Default: false
+     */
+    public PathParserOptions(boolean caseSensitive, boolean matchTrailingDelimiter, boolean allowEmptyParameterValues, boolean collapseEmptyPathSegments, boolean removeDotSegments) {
         this.caseSensitive = caseSensitive;
         this.matchTrailingDelimiter = matchTrailingDelimiter;
         this.allowEmptyParameterValues = allowEmptyParameterValues;
         this.collapseEmptyPathSegments = collapseEmptyPathSegments;
+        this.removeDotSegments = removeDotSegments;
     }
 
     /**
@@ -42,7 +58,8 @@ final public class PathParserOptions {
                 DEFAULT_CASE_SENSITIVE,
                 DEFAULT_MATCH_TRAILING_DELIMITER,
                 DEFAULT_ALLOW_EMPTY_PARAMETER_VALUES,
-                DEFAULT_COLLAPSE_EMPTY_PATH_SEGMENTS
+                DEFAULT_COLLAPSE_EMPTY_PATH_SEGMENTS,
+                DEFAULT_REMOVE_DOT_SEGMENTS
         );
     }
 
@@ -92,6 +109,16 @@ final public class PathParserOptions {
         return collapseEmptyPathSegments;
     }
 
+    /**
+     * When this option is true, '.' and '..' path segments are resolved as described in RFC 3986, section 5.2.4, before matching, e.g. "/a/./b/../c" matches like "/a/c".
+     * Default: false
+     *
+     * @return the value
+     */
+    public boolean removeDotSegments() {
+        return removeDotSegments;
+    }
+
     /**
      * Creates a builder preset to the instance's options.
      *
@@ -102,7 +129,8 @@ final public class PathParserOptions {
                 .caseSensitive(caseSensitive)
                 .matchTrailingDelimiter(matchTrailingDelimiter)
                 .allowEmptyParameterValues(allowEmptyParameterValues)
-                .collapseEmptyPathSegments(collapseEmptyPathSegments);
+                .collapseEmptyPathSegments(collapseEmptyPathSegments)
+                .removeDotSegments(removeDotSegments);
     }
 
     @Override
@@ -110,17 +138,17 @@ final public class PathParserOptions {
         if (this == o) return true;
         if (!(o instanceof PathParserOptions)) return false;
         PathParserOptions that = (PathParserOptions) o;
-        return caseSensitive == that.caseSensitive && matchTrailingDelimiter == that.matchTrailingDelimiter && allowEmptyParameterValues == that.allowEmptyParameterValues && collapseEmptyPathSegments == that.collapseEmptyPathSegments;
+        return caseSensitive == that.caseSensitive && matchTrailingDelimiter == that.matchTrailingDelimiter && allowEmptyParameterValues == that.allowEmptyParameterValues && collapseEmptyPathSegments == that.collapseEmptyPathSegments && removeDotSegments == that.removeDotSegments;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(caseSensitive, matchTrailingDelimiter, allowEmptyParameterValues);
+        return Objects.hash(caseSensitive, matchTrailingDelimiter, allowEmptyParameterValues, collapseEmptyPathSegments, removeDotSegments);
     }
 
     @Override
     public String toString() {
-        return new StringJoiner(", ", PathParserOptions.class.getSimpleName() + "[", "]").add("caseSensitive=" + caseSensitive).add("matchTrailingDelimiter=" + matchTrailingDelimiter).add("allowEmptyParameterValues=" + allowEmptyParameterValues).add("collapseEmptyPathSegments=" + collapseEmptyPathSegments).toString();
+        return new StringJoiner(", ", PathParserOptions.class.getSimpleName() + "[", "]").add("caseSensitive=" + caseSensitive).add("matchTrailingDelimiter=" + matchTrailingDelimiter).add("allowEmptyParameterValues=" + allowEmptyParameterValues).add("collapseEmptyPathSegments=" + collapseEmptyPathSegments).add("removeDotSegments=" + removeDotSegments).toString();
     }
 
     public static class Builder {
@@ -128,6 +156,7 @@ final public class PathParserOptions {
         private boolean matchTrailingDelimiter = DEFAULT_MATCH_TRAILING_DELIMITER;
         private boolean allowEmptyParameterValues = DEFAULT_ALLOW_EMPTY_PARAMETER_VALUES;
         private boolean collapseEmptyPathSegments = DEFAULT_COLLAPSE_EMPTY_PATH_SEGMENTS;
+        private boolean removeDotSegments = DEFAULT_REMOVE_DOT_SEGMENTS;
 
         private Builder() {
         }
@@ -213,18 +242,39 @@ final public class PathParserOptions {
             return this;
         }
 
+        /**
+         * When this option is true, '.' and '..' path segments are resolved as described in RFC 3986, section 5.2.4, before matching, e.g. "/a/./b/../c" matches like "/a/c".
+         * Default: false
+         *
+         * @return the value
+         */
+        public boolean removeDotSegments() {
+            return removeDotSegments;
+        }
+
+        /**
+         * Sets if '.' and '..' path segments should be resolved before matching.
+         *
+         * @param removeDotSegments new value
+         * @return same Builder instance
+         */
+        public Builder removeDotSegments(boolean removeDotSegments) {
+            this.removeDotSegments = removeDotSegments;
+            return this;
+        }
+
         /**
          * Build the PathParserOptions object.
          *
          * @return the built configuration
          */
         public PathParserOptions build() {
-            return new PathParserOptions(caseSensitive, matchTrailingDelimiter, allowEmptyParameterValues, collapseEmptyPathSegments);
+            return new PathParserOptions(caseSensitive, matchTrailingDelimiter, allowEmptyParameterValues, collapseEmptyPathSegments, removeDotSegments);
         }
 
         @Override
         public String toString() {
-            return new StringJoiner(", ", Builder.class.getSimpleName() + "[", "]").add("caseSensitive=" + caseSensitive).add("matchTrailingDelimiter=" + matchTrailingDelimiter).add("allowEmptyParameterValues=" + allowEmptyParameterValues).add("collapseEmptyPathSegments=" + collapseEmptyPathSegments).toString();
+            return new StringJoiner(", ", Builder.class.getSimpleName() + "[", "]").add("caseSensitive=" + caseSensitive).add("matchTrailingDelimiter=" + matchTrailingDelimiter).add("allowEmptyParameterValues=" + allowEmptyParameterValues).add("collapseEmptyPathSegments=" + collapseEmptyPathSegments).add("removeDotSegments=" + removeDotSegments).toString();
         }
     }
 }
@@ -0,0 +1,68 @@
+package com.joaonmatos.path_parse;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A matching path that could not be compiled while loading paths in bulk.
+ */
+final public class PathSpecError {
+    final private int lineNumber;
+    final private String matchingPath;
+    final private String message;
+
+    PathSpecError(int lineNumber, String matchingPath, String message) {
+        this.lineNumber = lineNumber;
+        this.matchingPath = matchingPath;
+        this.message = message;
+    }
+
+    /**
+     * The line of the source where the matching path was found.
+     *
+     * @return 1-based line number
+     */
+    public int lineNumber() {
+        return lineNumber;
+    }
+
+    /**
+     * The matching path, as it appeared in the source.
+     *
+     * @return matching path
+     */
+    public String matchingPath() {
+        return matchingPath;
+    }
+
+    /**
+     * Why the matching path is not correct, the same message PathParser.create would have thrown with.
+     *
+     * @return error message
+     */
+    public String message() {
+        return message;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PathSpecError)) return false;
+        PathSpecError that = (PathSpecError) o;
+        return lineNumber == that.lineNumber && Objects.equals(matchingPath, that.matchingPath) && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lineNumber, matchingPath, message);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", PathSpecError.class.getSimpleName() + "[", "]")
+                .add("lineNumber=" + lineNumber)
+                .add("matchingPath='" + matchingPath + "'")
+                .add("message='" + message + "'")
+                .toString();
+    }
+}
@@ -0,0 +1,85 @@
+package com.joaonmatos.path_parse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * The result of successfully matching a path split into segments against a PathParser.
+ */
+final public class SegmentParseResult {
+    final private List<? extends CharSequence> segments;
+    final private Map<String, ParseResultParameterValue> parameterValues;
+    final private PathParser matchingParser;
+
+    SegmentParseResult(
+            List<? extends CharSequence> segments,
+            Map<String, ParseResultParameterValue> parameterValues,
+            PathParser matchingParser
+    ) {
+        this.segments = segments;
+        this.parameterValues = Collections.unmodifiableMap(parameterValues);
+        this.matchingParser = matchingParser;
+    }
+
+    /**
+     * The segments that were input to the parseSegments method.
+     *
+     * @return input segments
+     */
+    public List<? extends CharSequence> segments() {
+        return segments;
+    }
+
+    /**
+     * The parser that executed this match.
+     *
+     * @return the respective PathParser
+     */
+    public PathParser matchingParser() {
+        return matchingParser;
+    }
+
+    /**
+     * The value of a parameter, if the parameterName exists in the matching path.
+     *
+     * @param parameterName name of the parameter (without ':')
+     * @return the corresponding parameter value or null, if the name does not exist in this parser.
+     */
+    public ParseResultParameterValue parameterValue(String parameterName) {
+        return parameterValues.get(parameterName);
+    }
+
+    /**
+     * Unmodifiable map view of the captured parameter values, positioned by segment index and offset inside the segment.
+     *
+     * @return map of name-value pairs
+     */
+    public Map<String, ParseResultParameterValue> parameterValues() {
+        return parameterValues;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof SegmentParseResult)) return false;
+        SegmentParseResult that = (SegmentParseResult) o;
+        return Objects.equals(segments, that.segments) && Objects.equals(parameterValues, that.parameterValues) && Objects.equals(matchingParser, that.matchingParser);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(segments, parameterValues, matchingParser);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", SegmentParseResult.class.getSimpleName() + "[", "]")
+                .add("segments=" + segments)
+                .add("parameterValues=" + parameterValues)
+                .add("matchingParser=" + matchingParser)
+                .toString();
+    }
+}
@@ -0,0 +1,215 @@
+package com.joaonmatos.path_parse;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * The matching path compiled into one matcher per segment, to match paths that arrive already split into segments.
+ * <p>
+ * Each segment of the matching path is a literal prefix followed by zero or more named parameters. Input segments are
+ * compared to the literal and the rest is split between the parameters the same way the compiled pattern would,
+ * with the first parameter taking as much as it can. When empty segments are collapsed in the pattern rather than in
+ * the input, the empty segments of the matching path are optional, as the delimiters that follow them are.
+ */
+final class SegmentPattern {
+    // the characters the compiled pattern excludes from parameter values
+    private static final boolean[] PARAMETER_DELIMITERS = PathChars.asciiTable("/#?");
+
+    final private String[] literals;
+    final private String[][] parameters;
+    final private boolean[] optionalSegments;
+    final private int requiredSegments;
+    final private boolean ignoreCase;
+    final private int minimumParameterLength;
+    final private boolean collapseEmptyPathSegments;
+    final private boolean removeDotSegments;
+    final private boolean stripTrailingDelimiter;
+    final private boolean optionalTrailingDelimiter;
+
+    /**
+     * @param normalizedPath            the matching path, already validated and normalized
+     * @param options                   the parser's options
+     * @param collapseEmptyPathSegments whether empty input segments are collapsed, which is not the case when they can
+     *                                  stand for empty parameter values, and the pattern collapses them instead
+     * @param stripTrailingDelimiter    whether a trailing empty input segment is dropped, as the parser's normalizer
+     *                                  does with the trailing delimiter
+     * @param optionalTrailingDelimiter whether the path ends in a parameter that can be empty, in which case a trailing
+     *                                  empty segment is kept for it when there is no other one
+     */
+    SegmentPattern(String normalizedPath, PathParserOptions options, boolean collapseEmptyPathSegments, boolean stripTrailingDelimiter, boolean optionalTrailingDelimiter) {
+        var segments = normalizedPath.substring(1).split("/", -1);
+        this.literals = new String[segments.length];
+        this.parameters = new String[segments.length][];
+        this.optionalSegments = new boolean[segments.length];
+        var collapseInPattern = options.collapseEmptyPathSegments() && !collapseEmptyPathSegments;
+        var requiredSegments = 0;
+        for (int i = 0; i < segments.length; i++) {
+            // an empty segment is followed by a delimiter that the pattern makes optional, except at the end
+            optionalSegments[i] = collapseInPattern && segments[i].isEmpty() && i < segments.length - 1;
+            if (!optionalSegments[i]) {
+                requiredSegments++;
+            }
+            var colon = segments[i].indexOf(':');
+            if (colon == -1) {
+                literals[i] = segments[i];
+                parameters[i] = new String[0];
+            } else {
+                literals[i] = segments[i].substring(0, colon);
+                parameters[i] = segments[i].substring(colon + 1).split(":");
+            }
+        }
+        this.requiredSegments = requiredSegments;
+        this.ignoreCase = !options.caseSensitive();
+        this.minimumParameterLength = options.allowEmptyParameterValues() ? 0 : 1;
+        this.collapseEmptyPathSegments = options.collapseEmptyPathSegments() && collapseEmptyPathSegments;
+        this.removeDotSegments = options.removeDotSegments();
+        this.stripTrailingDelimiter = stripTrailingDelimiter;
+        this.optionalTrailingDelimiter = optionalTrailingDelimiter;
+    }
+
+    SegmentParseResult match(List<? extends CharSequence> segments, PathParser parser) {
+        var input = segments.isEmpty() ? List.of("") : segments;
+        // null when the input is already canonical, so no copy is needed
+        var indexes = needsNormalization(input) ? normalize(input) : null;
+        var count = indexes == null ? input.size() : indexes.length;
+        if (count < requiredSegments || count > literals.length + (optionalTrailingDelimiter ? 1 : 0)) {
+            return null;
+        }
+        var matched = new int[literals.length];
+        if (!align(input, indexes, count, 0, 0, matched)) {
+            return null;
+        }
+        var parameterValues = new HashMap<String, ParseResultParameterValue>();
+        for (int i = 0; i < literals.length; i++) {
+            var names = parameters[i];
+            if (names.length == 0) {
+                continue;
+            }
+            var segment = segment(input, indexes, matched[i]);
+            var segmentIndex = indexes == null ? matched[i] : indexes[matched[i]] >= 0 ? indexes[matched[i]] : -indexes[matched[i]] - 1;
+            var start = literals[i].length();
+            var end = segment.length() - (names.length - 1) * minimumParameterLength;
+            for (var name : names) {
+                parameterValues.put(name, new ParseResultParameterValue(
+                        name,
+                        segment.subSequence(start, end).toString(),
+                        start,
+                        end,
+                        segmentIndex
+                ));
+                start = end;
+                end += minimumParameterLength;
+            }
+        }
+        return new SegmentParseResult(segments, parameterValues, parser);
+    }
+
+    /**
+     * Match the segments from the i-th on against the input segments from the k-th on, recording in matched the input
+     * segment each one took. Like the compiled pattern, an optional segment is taken when it can be, and skipped when
+     * that is the only way to match the rest.
+     */
+    private boolean align(List<? extends CharSequence> input, int[] indexes, int count, int i, int k, int[] matched) {
+        if (i == literals.length) {
+            // a trailing delimiter left optional in the pattern shows up as one more empty segment
+            return k == count || (optionalTrailingDelimiter && k == count - 1 && segment(input, indexes, k).length() == 0);
+        }
+        if (k < count && matchesSegment(i, segment(input, indexes, k))) {
+            matched[i] = k;
+            if (align(input, indexes, count, i + 1, k + 1, matched)) {
+                return true;
+            }
+        }
+        return optionalSegments[i] && align(input, indexes, count, i + 1, k, matched);
+    }
+
+    private boolean matchesSegment(int i, CharSequence segment) {
+        var literal = literals[i];
+        var parameterCount = parameters[i].length;
+        if (parameterCount == 0 ? segment.length() != literal.length() : segment.length() < literal.length() + parameterCount * minimumParameterLength) {
+            return false;
+        }
+        var hexDigitsLeft = 0;
+        for (int k = 0; k < literal.length(); k++) {
+            var a = literal.charAt(k);
+            var b = segment.charAt(k);
+            // percent-encoded octets are compared ignoring case, as PathNormalizer does for string inputs
+            if (a != b && !((ignoreCase || hexDigitsLeft > 0) && PathChars.foldCase(a) == PathChars.foldCase(b))) {
+                return false;
+            }
+            hexDigitsLeft = a == '%' ? 2 : Math.max(hexDigitsLeft - 1, 0);
+        }
+        for (int k = literal.length(); k < segment.length(); k++) {
+            if (PathChars.isIn(PARAMETER_DELIMITERS, segment.charAt(k))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean needsNormalization(List<? extends CharSequence> segments) {
+        var last = segments.size() - 1;
+        if (stripTrailingDelimiter && last > 0 && segments.get(last).length() == 0) {
+            return true;
+        }
+        if (!collapseEmptyPathSegments && !removeDotSegments) {
+            return false;
+        }
+        for (int i = 0; i <= last; i++) {
+            var segment = segments.get(i);
+            if ((collapseEmptyPathSegments && i < last && segment.length() == 0) || (removeDotSegments && dotSegmentLength(segment) > 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The segment-wise equivalent of PathNormalizer. Returns the indexes of the segments that remain, where -(i + 1)
+     * stands for an empty segment left behind by the dot segment at i.
+     */
+    private int[] normalize(List<? extends CharSequence> segments) {
+        var last = segments.size() - 1;
+        var indexes = new int[segments.size()];
+        var n = 0;
+        for (int i = 0; i <= last; i++) {
+            var segment = segments.get(i);
+            var dots = removeDotSegments ? dotSegmentLength(segment) : 0;
+            if (dots == 0) {
+                if (!(collapseEmptyPathSegments && i < last && segment.length() == 0)) {
+                    indexes[n++] = i;
+                }
+                continue;
+            }
+            if (dots == 2 && n > 0) {
+                n--;
+            }
+            if (i == last) {
+                indexes[n++] = -i - 1;
+            }
+        }
+        if (stripTrailingDelimiter && n > 1 && (indexes[n - 1] < 0 || segments.get(indexes[n - 1]).length() == 0)) {
+            n--;
+        }
+        return n == indexes.length ? indexes : Arrays.copyOf(indexes, n);
+    }
+
+    private static CharSequence segment(List<? extends CharSequence> segments, int[] indexes, int i) {
+        if (indexes == null) {
+            return segments.get(i);
+        }
+        return indexes[i] >= 0 ? segments.get(indexes[i]) : "";
+    }
+
+    private static int dotSegmentLength(CharSequence segment) {
+        var length = segment.length();
+        if (length == 1 && segment.charAt(0) == '.') {
+            return 1;
+        }
+        if (length == 2 && segment.charAt(0) == '.' && segment.charAt(1) == '.') {
+            return 2;
+        }
+        return 0;
+    }
+}
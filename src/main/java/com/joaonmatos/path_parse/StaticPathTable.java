@@ -0,0 +1,359 @@
+package com.joaonmatos.path_parse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Lookup table for matching paths without named parameters.
+ * <p>
+ * The table is built once, using a minimal perfect hash of the normalized matching paths, so that finding the path
+ * that matches an input takes a single hash and a single comparison, or two of each for an input that ends in a
+ * delimiter, no matter how many paths are in the table.
+ * All of its parsers must have been created with the same options, which the table respects when looking up inputs.
+ *
+ * @param <H> type of the handler associated with each matching path
+ */
+final public class StaticPathTable<H> {
+    private static final int MAX_SALTS = 32;
+    private static final int MAX_SEEDS_PER_BUCKET = 1 << 16;
+    private static final int SEED_MULTIPLIER = 0x9E3779B9;
+
+    final private PathParserOptions options;
+    final private PathNormalizer normalizer;
+    final private int salt;
+    final private int[] seeds;
+    final private String[] keys;
+    final private PathParser[] parsers;
+    final private Object[] handlers;
+    final private ParseResult[] results;
+
+    private StaticPathTable(PathParserOptions options, PathNormalizer normalizer, int salt, int[] seeds, String[] keys, PathParser[] parsers, Object[] handlers) {
+        this.options = options;
+        this.normalizer = normalizer;
+        this.salt = salt;
+        this.seeds = seeds;
+        this.keys = keys;
+        this.parsers = parsers;
+        this.handlers = handlers;
+        this.results = new ParseResult[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            results[i] = new ParseResult(keys[i], Map.of(), parsers[i]);
+        }
+    }
+
+    /**
+     * Create a table where each parser is its own handler.
+     *
+     * @param parsers parsers without named parameters, all created with the same options
+     * @return StaticPathTable
+     * @throws IllegalArgumentException when a parser has named parameters, the options differ, or two parsers match the same paths
+     */
+    public static StaticPathTable<PathParser> create(Collection<PathParser> parsers) {
+        var routes = new LinkedHashMap<PathParser, PathParser>();
+        for (var parser : parsers) {
+            routes.put(parser, parser);
+        }
+        return create(routes);
+    }
+
+    /**
+     * Create a table associating each parser to a handler.
+     *
+     * @param routes   parsers without named parameters, all created with the same options, and their handlers
+     * @param <H>      type of the handlers
+     * @return StaticPathTable
+     * @throws IllegalArgumentException when a parser has named parameters, the options differ, or two parsers match the same paths
+     */
+    public static <H> StaticPathTable<H> create(Map<PathParser, H> routes) {
+        var size = routes.size();
+        var keys = new String[size];
+        var parsers = new PathParser[size];
+        var handlers = new Object[size];
+        PathParserOptions options = null;
+        PathNormalizer normalizer = null;
+        var index = 0;
+        for (var route : routes.entrySet()) {
+            if (!(route.getKey() instanceof PathParserImpl)) {
+                throw new IllegalArgumentException("Can't build StaticPathTable: parser " + route.getKey() + " was not created by PathParser.create");
+            }
+            var parser = (PathParserImpl) route.getKey();
+            if (!parser.namedParameters().isEmpty()) {
+                throw new IllegalArgumentException("Can't build StaticPathTable: the path " + parser.matchingPath() + " has named parameters");
+            }
+            if (options == null) {
+                options = parser.options();
+                normalizer = new PathNormalizer(options, options.collapseEmptyPathSegments(), false);
+            } else if (!options.equals(parser.options())) {
+                throw new IllegalArgumentException("Can't build StaticPathTable: the path " + parser.matchingPath() + " was created with " + parser.options() + " but the table uses " + options);
+            }
+            var key = normalizer.normalize(parser.matchingPath()).value();
+            keys[index] = options.matchTrailingDelimiter() ? withoutTrailingDelimiter(key) : key;
+            parsers[index] = parser;
+            handlers[index] = route.getValue();
+            index++;
+        }
+        if (options == null) {
+            options = PathParserOptions.getDefault();
+            normalizer = new PathNormalizer(options);
+        }
+        checkForDuplicates(keys, parsers, !options.caseSensitive());
+
+        for (int salt = 0; salt < MAX_SALTS; salt++) {
+            var slots = placeKeys(keys, salt, !options.caseSensitive());
+            if (slots != null) {
+                return new StaticPathTable<>(
+                        options,
+                        normalizer,
+                        salt,
+                        slots.seeds,
+                        permute(keys, slots.keyIndexBySlot, new String[size]),
+                        permute(parsers, slots.keyIndexBySlot, new PathParser[size]),
+                        permute(handlers, slots.keyIndexBySlot, new Object[size])
+                );
+            }
+        }
+        throw new IllegalStateException("Can't build StaticPathTable: could not find a perfect hash for " + size + " paths");
+    }
+
+    /**
+     * Test the input against the paths in this table.
+     *
+     * @param input unknown path we want to look up
+     * @return ParseResult with no parameter values if a path matches, null otherwise
+     */
+    public ParseResult parse(String input) {
+        var slot = find(input, "StaticPathTable.parse");
+        if (slot == -1) {
+            return null;
+        }
+        // the preallocated result can only be handed out when it is indistinguishable from a fresh one
+        var result = results[slot];
+        return result.input().equals(input) ? result : new ParseResult(input, Map.of(), parsers[slot]);
+    }
+
+    /**
+     * Find the handler of the path matching the input.
+     *
+     * @param input unknown path we want to look up
+     * @return the handler if a path matches, null otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public H lookup(String input) {
+        var slot = find(input, "StaticPathTable.lookup");
+        return slot == -1 ? null : (H) handlers[slot];
+    }
+
+    /**
+     * Number of paths in this table.
+     *
+     * @return number of paths
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * The options shared by every parser in this table.
+     *
+     * @return options
+     */
+    public PathParserOptions options() {
+        return options;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", StaticPathTable.class.getSimpleName() + "[", "]")
+                .add("paths=" + Arrays.toString(keys))
+                .add("options=" + options)
+                .toString();
+    }
+
+    private int find(String input, String entryPoint) {
+        if (!FlightRecorderEvents.ENABLED) {
+            return findNormalized(input);
+        }
+        var event = new ParseEvent();
+        event.begin();
+        var slot = findNormalized(input);
+        event.end();
+        if (event.shouldCommit()) {
+            event.entryPoint = entryPoint;
+            event.matchingPath = slot == -1 ? null : parsers[slot].matchingPath();
+            event.inputLength = input.length();
+            event.matched = slot != -1;
+            event.commit();
+        }
+        return slot;
+    }
+
+    private int findNormalized(String input) {
+        var path = normalizer.normalize(input).value();
+        var slot = find(path);
+        if (slot == -1 && options.matchTrailingDelimiter() && !path.isEmpty() && path.charAt(path.length() - 1) == '/') {
+            slot = find(withoutTrailingDelimiter(path));
+        }
+        return slot;
+    }
+
+    private int find(String path) {
+        var size = keys.length;
+        if (size == 0) {
+            return -1;
+        }
+        var hash = hash(path, salt, !options.caseSensitive());
+        var slot = slot(hash, seeds[bucket(hash, size)], size);
+        return keys[slot].length() == path.length() && PathChars.regionMatches(keys[slot], path, 0, !options.caseSensitive())
+                ? slot
+                : -1;
+    }
+
+    /**
+     * Keys are stored without their trailing delimiter, the root path included, and an input that misses is looked up
+     * again without its own. This matches the parsers, which accept a path with or without one more trailing delimiter,
+     * but unlike stripping it from every input, does not take "//" for "/".
+     */
+    private static String withoutTrailingDelimiter(String path) {
+        return !path.isEmpty() && path.charAt(path.length() - 1) == '/' ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static void checkForDuplicates(String[] keys, PathParser[] parsers, boolean ignoreCase) {
+        var seen = new HashMap<String, PathParser>();
+        for (int i = 0; i < keys.length; i++) {
+            var key = ignoreCase ? foldCase(keys[i]) : keys[i];
+            var previous = seen.putIfAbsent(key, parsers[i]);
+            if (previous != null) {
+                throw new IllegalArgumentException("Can't build StaticPathTable: the paths " + previous.matchingPath() + " and " + parsers[i].matchingPath() + " match the same inputs");
+            }
+        }
+    }
+
+    /**
+     * Hash and displace: keys are first hashed into buckets, then, from the largest bucket to the smallest, each
+     * bucket looks for a seed that sends all of its keys to free slots. Buckets with a single key skip the search
+     * and store their slot directly, as a negative seed.
+     */
+    private static Slots placeKeys(String[] keys, int salt, boolean ignoreCase) {
+        var size = keys.length;
+        var hashes = new int[size];
+        var buckets = new ArrayList<List<Integer>>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (int i = 0; i < size; i++) {
+            hashes[i] = hash(keys[i], salt, ignoreCase);
+            buckets.get(bucket(hashes[i], size)).add(i);
+        }
+        var order = new ArrayList<Integer>(size);
+        for (int i = 0; i < size; i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+        var seeds = new int[size];
+        var keyIndexBySlot = new int[size];
+        Arrays.fill(keyIndexBySlot, -1);
+        var nextFreeSlot = 0;
+        var candidateSlots = new int[size];
+        for (var bucket : order) {
+            var members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+            if (members.size() == 1) {
+                while (keyIndexBySlot[nextFreeSlot] != -1) {
+                    nextFreeSlot++;
+                }
+                keyIndexBySlot[nextFreeSlot] = members.get(0);
+                seeds[bucket] = -nextFreeSlot - 1;
+                continue;
+            }
+            var placed = false;
+            for (int seed = 1; seed <= MAX_SEEDS_PER_BUCKET && !placed; seed++) {
+                placed = true;
+                for (int m = 0; m < members.size() && placed; m++) {
+                    var slot = slot(hashes[members.get(m)], seed, size);
+                    candidateSlots[m] = slot;
+                    if (keyIndexBySlot[slot] != -1) {
+                        placed = false;
+                    }
+                    for (int other = 0; other < m && placed; other++) {
+                        if (candidateSlots[other] == slot) {
+                            placed = false;
+                        }
+                    }
+                }
+                if (placed) {
+                    for (int m = 0; m < members.size(); m++) {
+                        keyIndexBySlot[candidateSlots[m]] = members.get(m);
+                    }
+                    seeds[bucket] = seed;
+                }
+            }
+            if (!placed) {
+                return null;
+            }
+        }
+        return new Slots(seeds, keyIndexBySlot);
+    }
+
+    private static <T> T[] permute(T[] values, int[] indexBySlot, T[] into) {
+        for (int slot = 0; slot < indexBySlot.length; slot++) {
+            into[slot] = values[indexBySlot[slot]];
+        }
+        return into;
+    }
+
+    private static String foldCase(String s) {
+        var chars = s.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = PathChars.foldCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    private static int hash(String s, int salt, boolean ignoreCase) {
+        // FNV-1a
+        var hash = 0x811C9DC5 ^ salt;
+        for (int i = 0; i < s.length(); i++) {
+            var c = s.charAt(i);
+            hash = (hash ^ (ignoreCase ? PathChars.foldCase(c) : c)) * 0x01000193;
+        }
+        return hash;
+    }
+
+    private static int bucket(int hash, int size) {
+        return Math.floorMod(mix(hash), size);
+    }
+
+    private static int slot(int hash, int seed, int size) {
+        return seed < 0 ? -seed - 1 : Math.floorMod(mix(hash + seed * SEED_MULTIPLIER), size);
+    }
+
+    private static int mix(int h) {
+        // MurmurHash3 finalizer
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    private static final class Slots {
+        final private int[] seeds;
+        final private int[] keyIndexBySlot;
+
+        private Slots(int[] seeds, int[] keyIndexBySlot) {
+            this.seeds = seeds;
+            this.keyIndexBySlot = keyIndexBySlot;
+        }
+    }
+}
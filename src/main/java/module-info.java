@@ -1,3 +1,12 @@
+/**
+ * Parsing of URI paths against pre-configured path specifications.
+ * <p>
+ * The only optional dependency is jdk.jfr, for the Flight Recorder events. When the module is absent from the runtime,
+ * e.g. in a jlink image without it, or not resolved, the library works the same and emits no events. When running on
+ * the module path, add {@code --add-modules jdk.jfr} to get them.
+ */
 module com.joaonmatos.path_parse {
+    requires static jdk.jfr;
+
     exports com.joaonmatos.path_parse;
-}
\ No newline at end of file
+}
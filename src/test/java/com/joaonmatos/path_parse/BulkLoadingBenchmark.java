@@ -0,0 +1,70 @@
+package com.joaonmatos.path_parse;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Startup benchmark comparing PathParser.createAll with calling PathParser.create in a loop.
+ * <p>
+ * Run it with {@code ./gradlew startupBenchmark}, optionally passing the number of matching paths, of rounds and of
+ * warm-up rounds as arguments, e.g. {@code ./gradlew startupBenchmark --args="50000 10 5"}. Warm-up rounds are not
+ * reported, and the two approaches take turns going first, so that neither one gets the JIT warm-up paid by the other.
+ */
+public class BulkLoadingBenchmark {
+    public static void main(String[] args) throws IOException {
+        var pathCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        var rounds = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+        var warmUpRounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        var source = new StringBuilder();
+        for (int i = 0; i < pathCount; i++) {
+            source.append("/tenants/tenant-").append(i).append("/users/:userid/blog-posts/:postid/comments\n");
+        }
+        var specs = source.toString();
+        var options = PathParserOptions.getDefault();
+
+        var loopTotal = 0.0;
+        var bulkTotal = 0.0;
+        for (int round = 1 - warmUpRounds; round <= rounds; round++) {
+            var loopFirst = round % 2 != 0;
+            var loopMillis = 0.0;
+            var bulkMillis = 0.0;
+            List<PathParser> parsers = null;
+            PathParserBatch batch = null;
+            for (int turn = 0; turn < 2; turn++) {
+                var start = System.nanoTime();
+                if ((turn == 0) == loopFirst) {
+                    parsers = new ArrayList<>(pathCount);
+                    for (var spec : specs.split("\n")) {
+                        parsers.add(PathParser.create(spec, options));
+                    }
+                    loopMillis = (System.nanoTime() - start) / 1_000_000.0;
+                } else {
+                    batch = PathParser.createAll(new StringReader(specs), options);
+                    bulkMillis = (System.nanoTime() - start) / 1_000_000.0;
+                }
+            }
+
+            check(parsers, batch.parsers());
+            if (round > 0) {
+                loopTotal += loopMillis;
+                bulkTotal += bulkMillis;
+                System.out.printf("round %d (%s first): %d paths, create loop %.1f ms, createAll %.1f ms%n", round, loopFirst ? "create loop" : "createAll", pathCount, loopMillis, bulkMillis);
+            }
+        }
+        System.out.printf("mean of %d rounds: create loop %.1f ms, createAll %.1f ms%n", rounds, loopTotal / rounds, bulkTotal / rounds);
+    }
+
+    private static void check(List<PathParser> expected, List<PathParser> actual) {
+        if (expected.size() != actual.size()) {
+            throw new IllegalStateException("createAll returned " + actual.size() + " parsers instead of " + expected.size());
+        }
+        for (int i = 0; i < expected.size(); i++) {
+            if (!expected.get(i).toString().equals(actual.get(i).toString())) {
+                throw new IllegalStateException("createAll returned " + actual.get(i) + " instead of " + expected.get(i) + " at index " + i);
+            }
+        }
+    }
+}
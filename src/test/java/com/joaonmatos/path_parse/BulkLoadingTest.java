@@ -0,0 +1,83 @@
+package com.joaonmatos.path_parse;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BulkLoadingTest {
+    @Test
+    void collectsParsersAndErrorsInSourceOrder() throws Exception {
+        var source = "# tenant routes\n"
+                + "/users/:userid/blog-posts\n"
+                + "\n"
+                + "/users/:\n"
+                + "  /health  \n"
+                + "/search?q\n";
+
+        var batch = PathParser.createAll(new StringReader(source), PathParserOptions.getDefault());
+
+        assertEquals(2, batch.parsers().size());
+        assertEquals("/users/:userid/blog-posts", batch.parsers().get(0).matchingPath());
+        assertEquals("/health", batch.parsers().get(1).matchingPath());
+        assertTrue(batch.hasErrors());
+        assertEquals(2, batch.errors().size());
+        assertEquals(4, batch.errors().get(0).lineNumber());
+        assertEquals("/users/:", batch.errors().get(0).matchingPath());
+        assertEquals(
+                assertThrows(IllegalArgumentException.class, () -> PathParser.create("/search?q")).getMessage(),
+                batch.errors().get(1).message()
+        );
+    }
+
+    @Test
+    void compilesLargeFilesLikeCreate() throws Exception {
+        var file = Files.createTempFile("path-parse", ".routes");
+        try {
+            var source = new StringBuilder();
+            for (int i = 0; i < 2000; i++) {
+                source.append("/tenants/t").append(i).append("/users/:userid/%2f\n");
+            }
+            Files.writeString(file, source, StandardCharsets.UTF_8);
+
+            var batch = PathParser.createAll(file, PathParserOptions.builder().caseSensitive(true).build());
+
+            assertFalse(batch.hasErrors());
+            assertEquals(2000, batch.parsers().size());
+            for (int i = 0; i < 2000; i += 100) {
+                var parser = batch.parsers().get(i);
+                assertEquals("/tenants/t" + i + "/users/:userid/%2f", parser.matchingPath());
+                assertNotNull(parser.parse("/tenants/t" + i + "/users/joao/%2F"));
+                assertEquals(
+                        PathParser.create(parser.matchingPath(), builder -> builder.caseSensitive(true)).toString(),
+                        parser.toString()
+                );
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void keepsLineNumbersAcrossChunks() throws Exception {
+        var source = new StringBuilder();
+        for (int i = 1; i <= 10_000; i++) {
+            source.append(i % 3000 == 0 ? "/broken/:" : "/t" + i).append('\n');
+        }
+
+        var batch = PathParser.createAll(new StringReader(source.toString()), PathParserOptions.getDefault());
+
+        assertEquals(9997, batch.parsers().size());
+        assertEquals("/t9999", batch.parsers().get(9995).matchingPath());
+        assertEquals(3, batch.errors().size());
+        assertEquals(3000, batch.errors().get(0).lineNumber());
+        assertEquals(9000, batch.errors().get(2).lineNumber());
+    }
+}
@@ -0,0 +1,34 @@
+package com.joaonmatos.path_parse;
+
+import java.util.List;
+
+/**
+ * PathParser that only implements the abstract methods, by delegating them, to test the default ones.
+ */
+final class DelegatingPathParser implements PathParser {
+    final private PathParser delegate;
+
+    DelegatingPathParser(PathParser delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String matchingPath() {
+        return delegate.matchingPath();
+    }
+
+    @Override
+    public int prefixLength() {
+        return delegate.prefixLength();
+    }
+
+    @Override
+    public List<String> namedParameters() {
+        return delegate.namedParameters();
+    }
+
+    @Override
+    public ParseResult parse(String input) {
+        return delegate.parse(input);
+    }
+}
@@ -0,0 +1,67 @@
+package com.joaonmatos.path_parse;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FlightRecorderEventsTest {
+    @Test
+    void recordsCompilationAndParsing() throws Exception {
+        List<RecordedEvent> events;
+        var file = Files.createTempFile("path-parse", ".jfr");
+        try (var recording = new Recording()) {
+            recording.enable("com.joaonmatos.path_parse.ParserCompilation");
+            recording.enable("com.joaonmatos.path_parse.Parse").withThreshold(Duration.ZERO);
+            recording.start();
+
+            var parser = PathParser.create("/users/:userid/blog-posts");
+            parser.parse("/users/joao/blog-posts");
+            parser.parse("/users");
+            parser.parseSegments("users", "joao", "blog-posts");
+            StaticPathTable.create(List.of(PathParser.create("/health"))).lookup("/health");
+            assertThrows(IllegalArgumentException.class, () -> PathParser.create("/users/:"));
+
+            recording.stop();
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+
+        var compilations = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.joaonmatos.path_parse.ParserCompilation"))
+                .collect(Collectors.toList());
+        assertEquals(3, compilations.size());
+        assertEquals("/users/:userid/blog-posts", compilations.get(0).getString("matchingPath"));
+        assertTrue(compilations.get(0).getBoolean("succeeded"));
+        assertTrue(compilations.get(0).getInt("patternLength") > 0);
+        assertEquals(1, compilations.get(0).getInt("namedParameterCount"));
+        assertFalse(compilations.get(2).getBoolean("succeeded"));
+
+        var parses = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.joaonmatos.path_parse.Parse"))
+                .collect(Collectors.toList());
+        assertEquals(4, parses.size());
+        assertEquals("PathParser.parse", parses.get(0).getString("entryPoint"));
+        assertEquals(22, parses.get(0).getInt("inputLength"));
+        assertTrue(parses.get(0).getBoolean("matched"));
+        assertFalse(parses.get(1).getBoolean("matched"));
+        assertEquals("PathParser.parseSegments", parses.get(2).getString("entryPoint"));
+        assertEquals(22, parses.get(2).getInt("inputLength"));
+        assertTrue(parses.get(2).getBoolean("matched"));
+        assertEquals("StaticPathTable.lookup", parses.get(3).getString("entryPoint"));
+        assertEquals("/health", parses.get(3).getString("matchingPath"));
+        assertTrue(parses.get(3).getBoolean("matched"));
+    }
+}
@@ -0,0 +1,106 @@
+package com.joaonmatos.path_parse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class PathNormalizerTest {
+    private static final PathNormalizer NORMALIZE_EVERYTHING = new PathNormalizer(PathParserOptions.builder()
+            .caseSensitive(true)
+            .collapseEmptyPathSegments(true)
+            .removeDotSegments(true)
+            .build());
+
+    @Test
+    void canonicalInputIsNotCopied() {
+        var input = "/users/joao/blog-posts";
+
+        var normalized = NORMALIZE_EVERYTHING.normalize(input);
+
+        assertSame(input, normalized.value());
+        assertEquals(5, normalized.originalStart(5));
+    }
+
+    @Test
+    void rewritesInOneScan() {
+        assertEquals("/a/b", NORMALIZE_EVERYTHING.normalize("//a///b/").value());
+        assertEquals("/a/c", NORMALIZE_EVERYTHING.normalize("/a/./b/../c").value());
+        assertEquals("/a/b", NORMALIZE_EVERYTHING.normalize("/a//../a/b/.").value());
+        assertEquals("/", NORMALIZE_EVERYTHING.normalize("/a/..").value());
+        assertEquals("/", NORMALIZE_EVERYTHING.normalize("/../..").value());
+        assertEquals("/a/..b/.c", NORMALIZE_EVERYTHING.normalize("/a/..b/.c").value());
+        assertEquals("/%2F%AB/%zz", NORMALIZE_EVERYTHING.normalize("/%2f%aB/%zz").value());
+    }
+
+    @Test
+    void mapsPositionsBackToTheInput() {
+        var normalized = NORMALIZE_EVERYTHING.normalize("/x/../users//joao/");
+
+        assertEquals("/users/joao", normalized.value());
+        assertEquals(13, normalized.originalStart(7));
+        assertEquals(17, normalized.originalEnd(11));
+    }
+
+    @Test
+    void parserReportsPositionsInTheInput() {
+        var parser = PathParser.create("/users/:userid/blog-posts", builder -> builder
+                .collapseEmptyPathSegments(true)
+                .removeDotSegments(true));
+        var input = "/drafts/../users//joao/./blog-posts/";
+
+        var parseResult = parser.parse(input);
+
+        assertNotNull(parseResult);
+        assertEquals(input, parseResult.input());
+        assertEquals(new ParseResultParameterValue("userid", "joao", 18, 22), parseResult.parameterValue("userid"));
+    }
+
+    @Test
+    void percentEncodingIsCaseInsensitiveEvenForCaseSensitiveParsers() {
+        var parser = PathParser.create("/files/a%2fb", builder -> builder.caseSensitive(true));
+
+        assertNotNull(parser.parse("/files/a%2Fb"));
+        assertNull(parser.parse("/FILES/a%2Fb"));
+    }
+
+    @Test
+    void keepsTheDelimitersAroundEmptyParameterValues() {
+        var trailing = PathParser.create("/u/:id", builder -> builder.allowEmptyParameterValues(true));
+
+        assertEquals(new ParseResultParameterValue("id", "", 3, 3), trailing.parse("/u/").parameterValue("id"));
+        assertEquals(new ParseResultParameterValue("id", "x", 3, 4), trailing.parse("/u/x/").parameterValue("id"));
+        assertNull(trailing.parse("/u"));
+
+        var collapsing = PathParser.create("/u/:id/x", builder -> builder
+                .allowEmptyParameterValues(true)
+                .collapseEmptyPathSegments(true));
+
+        assertEquals(new ParseResultParameterValue("id", "", 3, 3), collapsing.parse("/u//x").parameterValue("id"));
+        assertEquals(new ParseResultParameterValue("id", "y", 3, 4), collapsing.parse("/u/y/x/").parameterValue("id"));
+    }
+
+    @Test
+    void rootPathDoesNotMatchADoubledDelimiter() {
+        var root = PathParser.create("/");
+
+        assertNotNull(root.parse("/"));
+        assertNull(root.parse("//"));
+        assertNull(root.parseSegments("", ""));
+        assertNotNull(PathParser.create("/", builder -> builder.collapseEmptyPathSegments(true)).parse("//"));
+    }
+
+    @Test
+    void onlyTheLastOfTwoTrailingDelimitersIsOptional() {
+        var parser = PathParser.create("/users/:userid//");
+
+        assertNull(parser.parse("/users/joao"));
+        assertNotNull(parser.parse("/users/joao/"));
+        assertNotNull(parser.parse("/users/joao//"));
+        assertNotNull(parser.parseSegments("users", "joao", ""));
+        assertNotNull(PathParser.create("//").parse("//"));
+        assertNull(PathParser.create("//").parse("///"));
+    }
+}
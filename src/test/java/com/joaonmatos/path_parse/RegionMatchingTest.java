@@ -0,0 +1,107 @@
+package com.joaonmatos.path_parse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RegionMatchingTest {
+    @Test
+    void matchesThePathInsideARequestLine() {
+        var requestLine = "GET /users/42/blog-posts HTTP/1.1";
+        var parser = PathParser.create("/users/:userid/blog-posts");
+
+        var parseResult = parser.parse(requestLine, 4, 24);
+
+        assertNotNull(parseResult);
+        assertSame(requestLine, parseResult.source());
+        assertEquals("/users/42/blog-posts", parseResult.input());
+        assertEquals(4, parseResult.regionStart());
+        assertEquals(24, parseResult.regionEnd());
+        assertEquals(new ParseResultParameterValue("userid", "42", 11, 13), parseResult.parameterValue("userid"));
+        assertNull(parser.parse(requestLine, 4, 25));
+        assertNull(parser.parse(requestLine, 0, 24));
+    }
+
+    @Test
+    void continuesAfterAMountPrefix() {
+        var mount = PathParser.create("/api/v1");
+        var router = PathParser.create("/users/:userid/", builder -> builder.collapseEmptyPathSegments(true));
+        var input = new StringBuilder("/api/v1//users/joao/");
+
+        var parseResult = router.parse(input, mount.prefixLength(), input.length());
+
+        assertNotNull(parseResult);
+        assertEquals(new ParseResultParameterValue("userid", "joao", 15, 19), parseResult.parameterValue("userid"));
+        assertEquals("joao", input.substring(15, 19));
+    }
+
+    @Test
+    void continuesAfterATrailingSlashMount() {
+        var mount = PathParser.create("/api/v1/");
+        var router = PathParser.create("/users/:userid");
+        var input = "/api/v1/users/joao";
+
+        var from = mount.matchingPath().endsWith("/") ? mount.prefixLength() - 1 : mount.prefixLength();
+
+        var parseResult = router.parse(input, from, input.length());
+
+        assertNotNull(parseResult);
+        assertEquals("/users/joao", parseResult.input());
+        assertEquals(new ParseResultParameterValue("userid", "joao", 14, 18), parseResult.parameterValue("userid"));
+    }
+
+    @Test
+    void defaultImplementationParsesACopyOfTheRegion() {
+        var delegate = PathParser.create("/users/:userid/blog-posts");
+        var parser = new DelegatingPathParser(delegate);
+        var requestLine = "GET /users/42/blog-posts HTTP/1.1";
+
+        var parseResult = parser.parse(requestLine, 4, 24);
+
+        assertNotNull(parseResult);
+        assertSame(requestLine, parseResult.source());
+        assertSame(parser, parseResult.matchingParser());
+        assertEquals(delegate.parse(requestLine, 4, 24).parameterValues(), parseResult.parameterValues());
+        assertEquals(new ParseResultParameterValue("userid", "42", 11, 13), parseResult.parameterValue("userid"));
+        assertNull(parser.parse(requestLine, 0, 24));
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parse(requestLine, 4, 40));
+    }
+
+    @Test
+    void copiesTheRegionOnce() {
+        var input = new StringBuilder("/users/42/blog-posts");
+        var parser = PathParser.create("/users/:userid/blog-posts");
+        var parseResult = parser.parse(input, 0, input.length());
+
+        var copy = parseResult.input();
+        input.setCharAt(7, '7');
+
+        assertSame(copy, parseResult.input());
+        assertEquals("/users/42/blog-posts", parseResult.input());
+    }
+
+    @Test
+    void comparesRegionsOfDifferentSources() {
+        var parser = PathParser.create("/users/:userid");
+        var fromString = parser.parse("GET /users/42 HTTP/1.1", 4, 13);
+        var fromBuilder = parser.parse(new StringBuilder("PUT /users/42"), 4, 13);
+
+        assertEquals(fromString, fromBuilder);
+        assertEquals(fromString.hashCode(), fromBuilder.hashCode());
+        assertFalse(fromString.equals(parser.parse("GET /users/43 HTTP/1.1", 4, 13)));
+        assertFalse(fromString.equals(parser.parse("/users/42")));
+    }
+
+    @Test
+    void rejectsInvalidRegions() {
+        var parser = PathParser.create("/users");
+
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("/users", 0, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> parser.parse("/users", 3, 2));
+    }
+}
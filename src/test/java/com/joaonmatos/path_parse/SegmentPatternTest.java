@@ -0,0 +1,118 @@
+package com.joaonmatos.path_parse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class SegmentPatternTest {
+    @Test
+    void matchesSegmentsWithoutJoiningThem() {
+        var parser = PathParser.create("/users/:userid/blog-posts");
+        var segments = List.of("users", new StringBuilder("joao"), "blog-posts");
+
+        var parseResult = parser.parseSegments(segments);
+
+        assertNotNull(parseResult);
+        assertSame(segments, parseResult.segments());
+        assertSame(parser, parseResult.matchingParser());
+        assertEquals(new ParseResultParameterValue("userid", "joao", 0, 4, 1), parseResult.parameterValue("userid"));
+        assertNull(parser.parseSegments("users", "joao"));
+        assertNull(parser.parseSegments("users", "", "blog-posts"));
+    }
+
+    @Test
+    void agreesWithTheCompiledPattern() {
+        var parser = PathParser.create("/files/v:major:minor/%2f", builder -> builder.caseSensitive(true));
+
+        var parseResult = parser.parseSegments("files", "v1234", "%2F");
+
+        assertEquals(new ParseResultParameterValue("major", "123", 1, 4, 1), parseResult.parameterValue("major"));
+        assertEquals(new ParseResultParameterValue("minor", "4", 4, 5, 1), parseResult.parameterValue("minor"));
+        assertEquals(parser.parse("/files/v1234/%2F").parameterValue("major").value(), parseResult.parameterValue("major").value());
+        assertNull(parser.parseSegments("FILES", "v1234", "%2F"));
+        assertNull(parser.parseSegments("files", "v1", "%2F"));
+    }
+
+    @Test
+    void normalizesSegmentsLikePaths() {
+        var parser = PathParser.create("/users/:userid", builder -> builder
+                .collapseEmptyPathSegments(true)
+                .removeDotSegments(true));
+
+        var parseResult = parser.parseSegments("drafts", "..", "users", "", "joao", ".", "");
+
+        assertNotNull(parseResult);
+        assertEquals(new ParseResultParameterValue("userid", "joao", 0, 4, 4), parseResult.parameterValue("userid"));
+        assertNotNull(PathParser.create("/").parseSegments());
+        assertNotNull(PathParser.create("/").parseSegments(""));
+        assertNull(PathParser.create("/users", builder -> builder.matchTrailingDelimiter(false)).parseSegments("users", ""));
+    }
+
+    @Test
+    void keepsEmptySegmentsForEmptyParameterValues() {
+        var trailing = PathParser.create("/u/:id", builder -> builder.allowEmptyParameterValues(true));
+
+        assertEquals(new ParseResultParameterValue("id", "", 0, 0, 1), trailing.parseSegments("u", "").parameterValue("id"));
+        assertEquals(new ParseResultParameterValue("id", "x", 0, 1, 1), trailing.parseSegments("u", "x", "").parameterValue("id"));
+
+        var collapsing = PathParser.create("/u/:id/x", builder -> builder
+                .allowEmptyParameterValues(true)
+                .collapseEmptyPathSegments(true));
+
+        assertEquals(new ParseResultParameterValue("id", "", 0, 0, 1), collapsing.parseSegments("u", "", "x").parameterValue("id"));
+    }
+
+    @Test
+    void agreesWithTheCompiledPatternWhenItCollapsesEmptySegments() {
+        var inputs = List.of("/a/x", "/a//x", "/a///x", "/a/", "/a//", "/a/f/b", "/a/f//b", "/a//f/b", "/a/f/b/", "/a");
+        for (var matchingPath : List.of("/a//:x", "/a/:x//b", "//a/:x", "/a/:x//")) {
+            var parser = PathParser.create(matchingPath, builder -> builder
+                    .allowEmptyParameterValues(true)
+                    .collapseEmptyPathSegments(true));
+            for (var input : inputs) {
+                var parseResult = parser.parse(input);
+                var segmentParseResult = parser.parseSegments(input.substring(1).split("/", -1));
+                assertEquals(parseResult == null, segmentParseResult == null, matchingPath + " " + input);
+                if (parseResult != null) {
+                    assertEquals(parseResult.parameterValue("x").value(), segmentParseResult.parameterValue("x").value(), matchingPath + " " + input);
+                }
+            }
+        }
+    }
+
+    @Test
+    void rejectsParameterValuesTheCompiledPatternRejects() {
+        var parser = PathParser.create("/users/:id");
+
+        for (var value : List.of("a?b", "a/b", "a#b")) {
+            assertNull(parser.parseSegments("users", value), value);
+            assertNull(parser.parse("/users/" + value), value);
+        }
+        assertNotNull(parser.parseSegments("users", "a%3Fb"));
+    }
+
+    @Test
+    void defaultImplementationJoinsTheSegments() {
+        var delegate = PathParser.create("/users/:userid/posts/v:version");
+        var parser = new DelegatingPathParser(delegate);
+
+        var parseResult = parser.parseSegments("users", "joao", "posts", "v2");
+
+        assertSame(parser, parseResult.matchingParser());
+        assertEquals(
+                Map.of(
+                        "userid", new ParseResultParameterValue("userid", "joao", 0, 4, 1),
+                        "version", new ParseResultParameterValue("version", "2", 1, 2, 3)
+                ),
+                parseResult.parameterValues()
+        );
+        assertEquals(delegate.parseSegments("users", "joao", "posts", "v2").parameterValues(), parseResult.parameterValues());
+        assertNull(parser.parseSegments("users", "joao"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.joaonmatos.path_parse;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StaticPathTableTest {
+    @Test
+    void findsEveryPathInALargeTable() {
+        var routes = new LinkedHashMap<PathParser, Integer>();
+        for (int i = 0; i < 5000; i++) {
+            routes.put(PathParser.create("/tenants/t" + i + "/health"), i);
+        }
+
+        var table = StaticPathTable.create(routes);
+
+        assertEquals(5000, table.size());
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, table.lookup("/tenants/t" + i + "/health"));
+        }
+        assertNull(table.lookup("/tenants/t5000/health"));
+        assertNull(table.lookup("/tenants/t1"));
+    }
+
+    @Test
+    void respectsTheParserOptions() {
+        var table = StaticPathTable.create(List.of(
+                PathParser.create("/users/me/"),
+                PathParser.create("/blog-posts")
+        ));
+
+        assertEquals("/users/me/", table.lookup("/USERS/me").matchingPath());
+        assertEquals("/blog-posts", table.lookup("/blog-posts/").matchingPath());
+        assertNull(table.lookup("/blog-posts//"));
+
+        var collapsing = StaticPathTable.create(List.of(
+                PathParser.create("/users/me", builder -> builder.caseSensitive(true).collapseEmptyPathSegments(true))
+        ));
+
+        assertNotNull(collapsing.lookup("//users///me"));
+        assertNull(collapsing.lookup("/USERS/me"));
+    }
+
+    @Test
+    void rootPathDoesNotMatchADoubledDelimiter() {
+        var table = StaticPathTable.create(List.of(
+                PathParser.create("/"),
+                PathParser.create("/users/")
+        ));
+
+        assertEquals("/", table.lookup("/").matchingPath());
+        assertEquals("/users/", table.lookup("/users/").matchingPath());
+        assertNull(table.lookup("//"));
+    }
+
+    @Test
+    void agreesWithTheParsers() {
+        var inputs = List.of("", "/", "//", "/users", "/users/", "/users//", "//users", "/Users/./me/..", "/a/../users/", "/users/me");
+        for (var options : List.of(
+                PathParserOptions.getDefault(),
+                PathParserOptions.builder().matchTrailingDelimiter(false).build(),
+                PathParserOptions.builder().caseSensitive(true).collapseEmptyPathSegments(true).removeDotSegments(true).build()
+        )) {
+            var parsers = List.of(PathParser.create("/", options), PathParser.create("/users/", options));
+            var table = StaticPathTable.create(parsers);
+            for (var input : inputs) {
+                PathParser expected = null;
+                for (var parser : parsers) {
+                    if (parser.parse(input) != null) {
+                        expected = parser;
+                    }
+                }
+                assertSame(expected, table.lookup(input), options + " " + input);
+            }
+        }
+        assertEquals("/", StaticPathTable.create(List.of(PathParser.create("/"))).lookup("").matchingPath());
+
+        var dotted = PathParser.create("/:x/..", builder -> builder
+                .allowEmptyParameterValues(true)
+                .collapseEmptyPathSegments(true)
+                .removeDotSegments(true));
+
+        assertNotNull(dotted.parse("//"));
+        assertSame(dotted, StaticPathTable.create(List.of(dotted)).lookup("//"));
+    }
+
+    @Test
+    void sharesTheResultOfCanonicalInputs() {
+        var parser = PathParser.create("/users/me");
+        var table = StaticPathTable.create(List.of(parser));
+
+        var first = table.parse("/users/me");
+        var second = table.parse("/users/me");
+        var other = table.parse("/Users/me/");
+
+        assertSame(first, second);
+        assertSame(parser, first.matchingParser());
+        assertTrue(first.parameterValues().isEmpty());
+        assertEquals("/Users/me/", other.input());
+        assertEquals(parser.parse("/Users/me/"), other);
+    }
+
+    @Test
+    void rejectsInvalidTables() {
+        assertThrows(IllegalArgumentException.class, () -> StaticPathTable.create(List.of(
+                PathParser.create("/users/:userid")
+        )));
+        assertThrows(IllegalArgumentException.class, () -> StaticPathTable.create(List.of(
+                PathParser.create("/users"),
+                PathParser.create("/users", builder -> builder.caseSensitive(true))
+        )));
+        assertThrows(IllegalArgumentException.class, () -> StaticPathTable.create(List.of(
+                PathParser.create("/users"),
+                PathParser.create("/USERS/")
+        )));
+    }
+}